@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import org.dmg.pmml.PMML;
+import org.jpmml.model.metro.MetroJAXBUtil;
+import org.jpmml.sklearn.Encodable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the three phases of a conversion separately.
+ * </p>
+ *
+ * <ol>
+ *   <li>Unpickling a Python object from a pickle file.</li>
+ *   <li>Encoding a Python object into a PMML class model object.</li>
+ *   <li>Marshalling a PMML class model object into a PMML markup.</li>
+ * </ol>
+ *
+ * @see Main
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class ConversionBenchmark {
+
+	@Benchmark
+	public Object unpickle(FixtureState state) throws IOException {
+		return state.unpickle();
+	}
+
+	@Benchmark
+	public PMML encodePMML(EncodableState state){
+		Encodable encodable = state.encodable;
+
+		return encodable.encodePMML();
+	}
+
+	@Benchmark
+	public long marshalPMML(PMMLState state) throws Exception {
+		PMML pmml = state.pmml;
+
+		CountingOutputStream os = new CountingOutputStream(ByteStreams.nullOutputStream());
+
+		MetroJAXBUtil.marshalPMML(pmml, os);
+
+		return os.getCount();
+	}
+
+	/**
+	 * <p>
+	 * A freshly unpickled Python object.
+	 * </p>
+	 *
+	 * The encoding of a Python object is not guaranteed to be repeatable, because it may modify or clear the object state.
+	 */
+	@State(Scope.Benchmark)
+	static
+	public class EncodableState extends FixtureState {
+
+		private Encodable encodable = null;
+
+
+		@Setup(Level.Invocation)
+		public void setUp() throws IOException {
+			this.encodable = toEncodable();
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown(){
+			this.encodable = null;
+		}
+	}
+
+	@State(Scope.Benchmark)
+	static
+	public class PMMLState extends FixtureState {
+
+		private PMML pmml = null;
+
+
+		@Setup(Level.Iteration)
+		public void setUp() throws IOException {
+			Encodable encodable = toEncodable();
+
+			this.pmml = encodable.encodePMML();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown(){
+			this.pmml = null;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.io.ByteStreams;
+import org.jpmml.python.PickleUtil;
+import org.jpmml.python.Storage;
+import org.jpmml.python.StorageUtil;
+import org.jpmml.sklearn.Encodable;
+import org.jpmml.sklearn.EncodableUtil;
+import org.jpmml.sklearn.SkLearnUtil;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <p>
+ * A pickle file from the test resources of some converter module.
+ * </p>
+ *
+ * The pickle file is read into memory once per trial, so that file system access is excluded from measurements.
+ */
+@State(Scope.Benchmark)
+public class FixtureState {
+
+	@Param({
+		// Decision trees
+		"pmml-sklearn/DecisionTreeAudit",
+		"pmml-sklearn/DecisionTreeAuto",
+		// Decision tree ensembles
+		"pmml-sklearn/ExtraTreesAudit",
+		"pmml-sklearn/GradientBoostingAuto",
+		"pmml-sklearn/IsolationForestHousing",
+		"pmml-sklearn/RandomForestAudit",
+		// Histogram-based gradient boosting
+		"pmml-sklearn/HistGradientBoostingAudit",
+		"pmml-sklearn/HistGradientBoostingIris",
+		// Nearest neighbors
+		"pmml-sklearn/KNNHousing",
+		"pmml-sklearn/MultiKNNAudit",
+		// Neural networks
+		"pmml-sklearn/MLPHousing",
+		"pmml-sklearn/MLPIris",
+		// Text classification (CountVectorizer and TfidfVectorizer)
+		"pmml-sklearn/LinearSVCSentiment",
+		"pmml-sklearn/LogisticRegressionSentiment",
+		"pmml-sklearn/RandomForestSentiment",
+		// LightGBM
+		"pmml-sklearn-lightgbm/LGBMAudit",
+		"pmml-sklearn-lightgbm/LGBMAuto",
+		// XGBoost
+		"pmml-sklearn-xgboost/XGBAudit",
+		"pmml-sklearn-xgboost/XGBAuto"
+	})
+	public String fixture = null;
+
+	private byte[] content = null;
+
+
+	@Setup(Level.Trial)
+	public void loadContent() throws IOException {
+		String path = "/pkl/" + this.fixture + ".pkl";
+
+		try(InputStream is = FixtureState.class.getResourceAsStream(path)){
+
+			if(is == null){
+				throw new IOException("Pickle file " + path + " not found");
+			}
+
+			this.content = ByteStreams.toByteArray(is);
+		}
+	}
+
+	public Object unpickle() throws IOException {
+
+		try(Storage storage = StorageUtil.createStorage(new ByteArrayInputStream(this.content))){
+			return PickleUtil.unpickle(storage);
+		}
+	}
+
+	public Encodable toEncodable() throws IOException {
+		Object object = unpickle();
+
+		return EncodableUtil.toEncodable(object);
+	}
+
+	static {
+		SkLearnUtil.initOnce();
+	}
+}
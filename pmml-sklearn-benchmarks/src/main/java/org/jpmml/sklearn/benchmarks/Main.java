@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Runs JMH benchmarks with the GC profiler enabled.
+ * </p>
+ *
+ * The GC profiler reports the normalized allocation rate (<code>gc.alloc.rate.norm</code>, bytes per operation),
+ * which is a more stable regression indicator than the average time.
+ *
+ * All standard JMH command-line options are supported.
+ * For example, <code>-p fixture=pmml-sklearn/RandomForestAudit</code> limits the run to a single pickle file,
+ * and <code>-rf json</code> writes results in JSON data format.
+ */
+public class Main {
+
+	private Main(){
+	}
+
+	static
+	public void main(String... args) throws Exception {
+		CommandLineOptions commandLineOptions;
+
+		try {
+			commandLineOptions = new CommandLineOptions(args);
+		} catch(CommandLineOptionException cloe){
+			System.err.println(cloe.getMessage());
+
+			System.exit(-1);
+
+			return;
+		}
+
+		if(commandLineOptions.shouldHelp()){
+			commandLineOptions.showHelp();
+
+			System.exit(0);
+		}
+
+		OptionsBuilder optionsBuilder = new OptionsBuilder();
+		optionsBuilder.parent(commandLineOptions);
+
+		if(commandLineOptions.getIncludes().isEmpty()){
+			optionsBuilder.include(ConversionBenchmark.class.getName());
+		}
+
+		optionsBuilder.addProfiler(GCProfiler.class);
+
+		Options options = optionsBuilder.build();
+
+		Runner runner = new Runner(options);
+		runner.run();
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.example;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A pickle input file, a PMML output file, and conversion options.
+ * </p>
+ *
+ * A batch is loaded either from a directory or from a manifest file.
+ *
+ * In case of a directory, every pickle file in it is converted to a PMML file with the same base name.
+ *
+ * In case of a manifest file, every line is one batch entry, which consists of whitespace-separated tokens.
+ * The first token is the pickle input file, the optional second token is the PMML output file,
+ * and all the remaining <code>key=value</code> tokens are conversion options.
+ * Relative paths are resolved against the directory of the manifest file.
+ * Blank lines and lines starting with <code>#</code> are ignored.
+ * For example:
+ * <pre>
+ * # Default PMML output file
+ * audit/RandomForest.pkl
+ * # Custom PMML output file and conversion options
+ * audit/DecisionTree.pkl pmml/DecisionTree.pmml compact=false winner_id=true
+ * </pre>
+ */
+public class BatchEntry {
+
+	private File input = null;
+
+	private File output = null;
+
+	private Map<String, ?> options = null;
+
+
+	public BatchEntry(File input, File output, Map<String, ?> options){
+		setInput(input);
+		setOutput(output);
+		setOptions(options);
+	}
+
+	public File getInput(){
+		return this.input;
+	}
+
+	private void setInput(File input){
+		this.input = Objects.requireNonNull(input);
+	}
+
+	public File getOutput(){
+		return this.output;
+	}
+
+	private void setOutput(File output){
+		this.output = Objects.requireNonNull(output);
+	}
+
+	public Map<String, ?> getOptions(){
+		return this.options;
+	}
+
+	private void setOptions(Map<String, ?> options){
+		this.options = Objects.requireNonNull(options);
+	}
+
+	/**
+	 * @param outputDir The directory for PMML output files that are not specified explicitly.
+	 * If <code>null</code>, then the directory of each pickle input file.
+	 *
+	 * @throws IOException If two batch entries have the same PMML output file.
+	 */
+	static
+	public List<BatchEntry> load(File file, File outputDir) throws IOException {
+		List<BatchEntry> result;
+
+		if(file.isDirectory()){
+			result = loadDirectory(file, outputDir);
+		} else
+
+		{
+			result = loadManifest(file, outputDir);
+		}
+
+		checkOutputs(result);
+
+		return result;
+	}
+
+	static
+	private List<BatchEntry> loadDirectory(File dir, File outputDir) throws IOException {
+		File[] files = dir.listFiles(file -> file.isFile() && (getBaseName(file) != null));
+
+		if(files == null){
+			throw new IOException("Failed to list directory " + dir);
+		}
+
+		Arrays.sort(files);
+
+		List<BatchEntry> result = new ArrayList<>();
+
+		for(File file : files){
+			result.add(new BatchEntry(file, getOutput(file, outputDir), Collections.emptyMap()));
+		}
+
+		return result;
+	}
+
+	static
+	private List<BatchEntry> loadManifest(File file, File outputDir) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+		List<BatchEntry> result = new ArrayList<>();
+
+		for(String line : lines){
+			line = line.trim();
+
+			if(line.isEmpty() || line.startsWith("#")){
+				continue;
+			}
+
+			String[] tokens = line.split("\\s+");
+
+			File input = resolve(dir, tokens[0]);
+			File output = null;
+
+			Map<String, Object> options = new LinkedHashMap<>();
+
+			for(int i = 1; i < tokens.length; i++){
+				String token = tokens[i];
+
+				int index = token.indexOf('=');
+				if(index > 0){
+					options.put(token.substring(0, index), parseValue(token.substring(index + 1)));
+				} else
+
+				if(i == 1){
+					output = resolve(dir, token);
+				} else
+
+				{
+					throw new IOException("Invalid manifest line \'" + line + "\'");
+				}
+			}
+
+			if(output == null){
+				output = getOutput(input, outputDir);
+			}
+
+			result.add(new BatchEntry(input, output, options));
+		}
+
+		return result;
+	}
+
+	static
+	private void checkOutputs(List<BatchEntry> entries) throws IOException {
+		Map<Path, BatchEntry> outputs = new HashMap<>();
+
+		for(BatchEntry entry : entries){
+			Path output = ((entry.getOutput()).toPath()).toAbsolutePath().normalize();
+
+			BatchEntry prevEntry = outputs.putIfAbsent(output, entry);
+			if(prevEntry != null){
+				throw new IOException("PKL input files " + prevEntry.getInput() + " and " + entry.getInput() + " have the same PMML output file " + output);
+			}
+		}
+	}
+
+	static
+	private File getOutput(File input, File outputDir){
+		String name = getBaseName(input);
+
+		if(name == null){
+			name = input.getName();
+		} // End if
+
+		if(outputDir == null){
+			outputDir = input.getAbsoluteFile().getParentFile();
+		}
+
+		return new File(outputDir, name + ".pmml");
+	}
+
+	static
+	private String getBaseName(File file){
+		String name = file.getName();
+
+		for(String extension : BatchEntry.PICKLE_EXTENSIONS){
+
+			if(name.endsWith(extension)){
+				return name.substring(0, name.length() - extension.length());
+			}
+		}
+
+		return null;
+	}
+
+	static
+	private File resolve(File dir, String path){
+		File file = new File(path);
+
+		if(!file.isAbsolute()){
+			file = new File(dir, path);
+		}
+
+		return file;
+	}
+
+	static
+	private Object parseValue(String value){
+
+		switch(value){
+			case "true":
+			case "false":
+				return Boolean.valueOf(value);
+			default:
+				break;
+		}
+
+		try {
+			return Integer.valueOf(value);
+		} catch(NumberFormatException nfe){
+			return value;
+		}
+	}
+
+	private static final List<String> PICKLE_EXTENSIONS = Arrays.asList(".pkl", ".pkl.z", ".pkl.gz", ".pkl.bz2", ".pkl.xz", ".joblib");
+}
@@ -20,26 +20,38 @@ package org.jpmml.sklearn.example;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.ParameterException;
 import org.dmg.pmml.PMML;
 import org.jpmml.model.metro.MetroJAXBUtil;
-import org.jpmml.python.PickleUtil;
 import org.jpmml.python.Storage;
 import org.jpmml.python.StorageUtil;
+import org.jpmml.sklearn.ConversionCache;
 import org.jpmml.sklearn.Encodable;
-import org.jpmml.sklearn.EncodableUtil;
+import org.jpmml.sklearn.EncodingProfiler;
+import org.jpmml.sklearn.SkLearnConverter;
 import org.jpmml.sklearn.SkLearnUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import sklearn.Composite;
+import sklearn.StepUtil;
 import sklearn.tree.HasTreeOptions;
-import sklearn2pmml.HasPMMLOptions;
 
 public class Main {
 
@@ -52,18 +64,58 @@ public class Main {
 
 	@Parameter (
 		names = {"--pkl-pipeline-input", "--pkl-input"},
-		description = "Pickle input file",
-		required = true
+		description = "Pickle input file"
 	)
 	private File input = null;
 
 	@Parameter (
 		names = {"--pmml-output"},
-		description = "PMML output file",
-		required = true
+		description = "PMML output file"
 	)
 	private File output = null;
 
+	@Parameter (
+		names = {"--pkl-batch-input"},
+		description = "Pickle input directory, or batch manifest file"
+	)
+	private File batchInput = null;
+
+	@Parameter (
+		names = {"--pmml-batch-output"},
+		description = "PMML output directory. Defaults to the directory of each pickle input file"
+	)
+	private File batchOutput = null;
+
+	@Parameter (
+		names = {"--batch-threads"},
+		description = "Number of concurrent conversions. Defaults to the number of available processors"
+	)
+	private Integer batchThreads = null;
+
+	@Parameter (
+		names = {"--profile-output"},
+		description = "JSON profile output file. In batch mode, contains a JSON array of per-PKL profiles"
+	)
+	private File profileOutput = null;
+
+	@Parameter (
+		names = {"--release-content"},
+		description = "Release the array content of pipeline steps as soon as they have been encoded. Reduces peak memory usage"
+	)
+	private boolean releaseContent = false;
+
+	@Parameter (
+		names = {"--cache-dir"},
+		description = "Conversion cache directory. Repeat conversions of the same pickle file with the same conversion options are copied from the cache"
+	)
+	private File cacheDir = null;
+
+	@Parameter (
+		names = {"--cache-size"},
+		description = "Maximum size of the conversion cache in megabytes. Least recently used PMML files are evicted first"
+	)
+	private long cacheSize = 1024L;
+
 	@Parameter (
 		names = {"--X-" + HasTreeOptions.OPTION_COMPACT},
 		description = "Transform SkLearn-style trees to PMML-style trees",
@@ -113,6 +165,8 @@ public class Main {
 	)
 	private Boolean winnerId = null;
 
+	private ConversionCache conversionCache = null;
+
 
 	static
 	public void main(String... args) throws Exception {
@@ -123,6 +177,8 @@ public class Main {
 
 		try {
 			commander.parse(args);
+
+			main.checkParameters();
 		} catch(ParameterException pe){
 			StringBuilder sb = new StringBuilder();
 
@@ -149,61 +205,281 @@ public class Main {
 		main.run();
 	}
 
+	private void checkParameters(){
+
+		if(this.help){
+			return;
+		} // End if
+
+		if(this.batchInput != null){
+
+			if(this.input != null || this.output != null){
+				throw new ParameterException("Options --pkl-input and --pmml-output cannot be used together with option --pkl-batch-input");
+			} // End if
+
+			if(this.batchThreads != null && this.batchThreads < 1){
+				throw new ParameterException("Option --batch-threads must be positive");
+			}
+		} else
+
+		{
+			if(this.input == null || this.output == null){
+				throw new ParameterException("The following options are required: [--pkl-input], [--pmml-output]");
+			}
+		} // End if
+
+		if(this.cacheSize < 0L){
+			throw new ParameterException("Option --cache-size must be non-negative");
+		}
+	}
+
 	public void run() throws Exception {
-		Object object;
 
-		try(Storage storage = StorageUtil.createStorage(this.input)){
-			logger.info("Parsing PKL..");
+		if(this.batchInput != null){
+			int failures = runBatch();
+
+			if(failures > 0){
+				System.exit(-1);
+			}
+
+			return;
+		}
+
+		String profile = convert(this.input, this.output, getOptions());
+
+		if(profile != null){
+			writeProfile(profile);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts a batch of pickle files in one JVM, using a fixed-size pool of worker threads.
+	 * </p>
+	 *
+	 * Conversion options of a batch entry override conversion options of the command-line.
+	 *
+	 * @return The number of failed conversions.
+	 *
+	 * @see BatchEntry
+	 */
+	public int runBatch() throws Exception {
+		List<BatchEntry> entries = BatchEntry.load(this.batchInput, this.batchOutput);
+
+		int threads = (this.batchThreads != null ? this.batchThreads : Runtime.getRuntime().availableProcessors());
+
+		logger.info("Converting {} PKL(s) using {} thread(s)..", entries.size(), threads);
+
+		Map<String, ?> options = getOptions();
+
+		// Share one cache between all worker threads
+		ConversionCache conversionCache = getConversionCache();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+
+			for(BatchEntry entry : entries){
+				Map<String, Object> entryOptions = new LinkedHashMap<>(options);
+				entryOptions.putAll(entry.getOptions());
+
+				Future<String> future = executorService.submit(() -> {
+					long begin = System.currentTimeMillis();
+					String profile = convert(entry.getInput(), entry.getOutput(), entryOptions, conversionCache);
+					long end = System.currentTimeMillis();
+
+					logger.info("Converted {} to {} in {} ms.", entry.getInput(), entry.getOutput(), (end - begin));
+
+					return profile;
+				});
+
+				futures.add(future);
+			}
+
+			List<String> profiles = new ArrayList<>();
+
+			int failures = 0;
+
+			for(int i = 0; i < entries.size(); i++){
+				BatchEntry entry = entries.get(i);
+				Future<String> future = futures.get(i);
+
+				try {
+					String profile = future.get();
+
+					if(profile != null){
+						profiles.add(profile);
+					}
+				} catch(ExecutionException ee){
+					Throwable cause = ee.getCause();
+
+					logger.error("Failed to convert {} to {}: {}", entry.getInput(), entry.getOutput(), cause.toString());
+
+					failures++;
+				}
+			}
+
+			logger.info("Converted {} PKL(s), failed to convert {} PKL(s).", (entries.size() - failures), failures);
+
+			if(this.profileOutput != null){
+				writeProfile("[\n" + String.join(",\n", profiles) + "\n]");
+			}
+
+			return failures;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return A JSON profile if profiling is enabled, <code>null</code> otherwise.
+	 *
+	 * @see EncodingProfiler
+	 */
+	public String convert(File input, File output, Map<String, ?> options) throws Exception {
+		return convert(input, output, options, getConversionCache());
+	}
+
+	private String convert(File input, File output, Map<String, ?> options, ConversionCache conversionCache) throws Exception {
+		EncodingProfiler profiler = (this.profileOutput != null ? new EncodingProfiler() : null);
+
+		Map<String, Object> profileAttributes = new LinkedHashMap<>();
+		profileAttributes.put("input", input.getPath());
+		profileAttributes.put("output", output.getPath());
+
+		String cacheKey = null;
+
+		if(conversionCache != null){
+			cacheKey = conversionCache.computeKey(input, options);
+
+			if(conversionCache.get(cacheKey, output)){
+				logger.info("Copied PMML {} from conversion cache.", output);
+
+				profileAttributes.put("cache_hit", true);
+
+				if(profiler != null){
+					return profiler.format(profileAttributes);
+				}
+
+				return null;
+			}
+
+			profileAttributes.put("cache_hit", false);
+		}
+
+		SkLearnConverter converter = new SkLearnConverter();
+
+		Encodable encodable;
+
+		try(Storage storage = StorageUtil.createStorage(input)){
+			logger.info("Parsing PKL {}..", input);
 
 			long begin = System.currentTimeMillis();
-			object = PickleUtil.unpickle(storage);
+			encodable = converter.unpickle(storage);
 			long end = System.currentTimeMillis();
 
-			logger.info("Parsed PKL in {} ms.", (end - begin));
+			logger.info("Parsed PKL {} in {} ms.", input, (end - begin));
+
+			profileAttributes.put("parse_time_ms", (end - begin));
 		} catch(Exception e){
-			logger.error("Failed to parse PKL", e);
+			logger.error("Failed to parse PKL " + input, e);
 
 			throw e;
 		}
 
-		Encodable encodable = EncodableUtil.toEncodable(object);
+		if(this.releaseContent && (encodable instanceof Composite)){
+			Composite composite = (Composite)encodable;
 
-		Map<String, ?> options = getOptions();
-		if(!options.isEmpty()){
-			HasPMMLOptions<?> hasPmmlOptions = (HasPMMLOptions<?>)encodable;
-
-			hasPmmlOptions.setPMMLOptions(options);
+			composite.setReleaseContent(true);
 		}
 
 		PMML pmml;
 
 		try {
-			logger.info("Converting PKL to PMML..");
+			logger.info("Converting PKL {} to PMML..", input);
+
+			if(profiler != null){
+				profiler.activate();
+			}
 
 			long begin = System.currentTimeMillis();
-			pmml = encodable.encodePMML();
+			pmml = converter.encodePMML(encodable, options);
 			long end = System.currentTimeMillis();
 
-			logger.info("Converted PKL to PMML in {} ms.", (end - begin));
+			logger.info("Converted PKL {} to PMML in {} ms.", input, (end - begin));
+
+			profileAttributes.put("convert_time_ms", (end - begin));
+
+			if(this.releaseContent){
+				StepUtil.releaseContent(encodable);
+			}
 		} catch(Exception e){
-			logger.error("Failed to convert PKL to PMML", e);
+			logger.error("Failed to convert PKL " + input + " to PMML", e);
 
 			throw e;
+		} finally {
+
+			if(profiler != null){
+				profiler.deactivate();
+			}
 		}
 
-		try(OutputStream os = new FileOutputStream(this.output)){
-			logger.info("Marshalling PMML..");
+		try(OutputStream os = new FileOutputStream(output)){
+			logger.info("Marshalling PMML {}..", output);
 
 			long begin = System.currentTimeMillis();
 			MetroJAXBUtil.marshalPMML(pmml, os);
 			long end = System.currentTimeMillis();
 
-			logger.info("Marshalled PMML in {} ms.", (end - begin));
+			logger.info("Marshalled PMML {} in {} ms.", output, (end - begin));
+
+			profileAttributes.put("marshal_time_ms", (end - begin));
 		} catch(Exception e){
-			logger.error("Failed to marshal PMML", e);
+			logger.error("Failed to marshal PMML " + output, e);
 
 			throw e;
 		}
+
+		if(conversionCache != null){
+			conversionCache.put(cacheKey, output);
+		}
+
+		if(profiler != null){
+			return profiler.format(profileAttributes);
+		}
+
+		return null;
+	}
+
+	private void writeProfile(String profile) throws IOException {
+
+		try(Writer writer = new OutputStreamWriter(new FileOutputStream(this.profileOutput), StandardCharsets.UTF_8)){
+			writer.write(profile);
+			writer.write("\n");
+		}
+	}
+
+	synchronized
+	private ConversionCache getConversionCache() throws IOException {
+
+		if(this.cacheDir == null){
+			return null;
+		} // End if
+
+		if(this.conversionCache == null){
+			ConversionCache conversionCache = new ConversionCache(this.cacheDir, this.cacheSize * 1024L * 1024L);
+
+			if(!conversionCache.isEnabled()){
+				logger.warn("The JPMML-SkLearn version is not known, disabling the conversion cache");
+
+				return null;
+			}
+
+			this.conversionCache = conversionCache;
+		}
+
+		return this.conversionCache;
 	}
 
 	private Map<String, ?> getOptions(){
@@ -239,9 +515,59 @@ public class Main {
 		this.output = output;
 	}
 
+	public File getBatchInput(){
+		return this.batchInput;
+	}
+
+	public void setBatchInput(File batchInput){
+		this.batchInput = batchInput;
+	}
+
+	public File getBatchOutput(){
+		return this.batchOutput;
+	}
+
+	public void setBatchOutput(File batchOutput){
+		this.batchOutput = batchOutput;
+	}
+
+	public Integer getBatchThreads(){
+		return this.batchThreads;
+	}
+
+	public void setBatchThreads(Integer batchThreads){
+		this.batchThreads = batchThreads;
+	}
+
+	public File getProfileOutput(){
+		return this.profileOutput;
+	}
+
+	public void setProfileOutput(File profileOutput){
+		this.profileOutput = profileOutput;
+	}
+
+	public File getCacheDir(){
+		return this.cacheDir;
+	}
+
+	public void setCacheDir(File cacheDir){
+		this.cacheDir = cacheDir;
+		this.conversionCache = null;
+	}
+
+	public long getCacheSize(){
+		return this.cacheSize;
+	}
+
+	public void setCacheSize(long cacheSize){
+		this.cacheSize = cacheSize;
+		this.conversionCache = null;
+	}
+
 	static {
 		SkLearnUtil.initOnce();
 	}
 
 	private static final Logger logger = LoggerFactory.getLogger(Main.class);
-}
\ No newline at end of file
+}
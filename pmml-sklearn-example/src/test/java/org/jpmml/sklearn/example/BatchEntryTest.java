@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.example;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BatchEntryTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+
+	@Test
+	public void loadManifest() throws IOException {
+		File dir = this.folder.newFolder("batch");
+
+		File manifest = write(new File(dir, "batch.txt"),
+			"# Default PMML output file",
+			"audit/RandomForest.pkl",
+			"",
+			"  audit/DecisionTree.pkl   pmml/DecisionTree.pmml compact=false max_depth=3 name=tree  ",
+			"iris/LogisticRegression.pkl.z winner_id=true"
+		);
+
+		List<BatchEntry> entries = BatchEntry.load(manifest, null);
+
+		assertEquals(3, entries.size());
+
+		BatchEntry entry = entries.get(0);
+
+		assertEquals(new File(dir, "audit/RandomForest.pkl"), entry.getInput());
+		assertEquals(new File(dir, "audit/RandomForest.pmml"), entry.getOutput());
+		assertEquals(Collections.emptyMap(), entry.getOptions());
+
+		entry = entries.get(1);
+
+		Map<String, Object> options = new LinkedHashMap<>();
+		options.put("compact", Boolean.FALSE);
+		options.put("max_depth", 3);
+		options.put("name", "tree");
+
+		assertEquals(new File(dir, "audit/DecisionTree.pkl"), entry.getInput());
+		assertEquals(new File(dir, "pmml/DecisionTree.pmml"), entry.getOutput());
+		assertEquals(options, entry.getOptions());
+
+		entry = entries.get(2);
+
+		assertEquals(new File(dir, "iris/LogisticRegression.pmml"), entry.getOutput());
+		assertEquals(Collections.singletonMap("winner_id", Boolean.TRUE), entry.getOptions());
+
+		File outputDir = this.folder.newFolder("pmml");
+
+		entries = BatchEntry.load(manifest, outputDir);
+
+		assertEquals(new File(outputDir, "RandomForest.pmml"), (entries.get(0)).getOutput());
+		assertEquals(new File(dir, "pmml/DecisionTree.pmml"), (entries.get(1)).getOutput());
+	}
+
+	@Test
+	public void loadInvalidManifest() throws IOException {
+		File dir = this.folder.newFolder("batch");
+
+		File manifest = write(new File(dir, "batch.txt"), "a.pkl a.pmml b.pmml");
+
+		try {
+			BatchEntry.load(manifest, null);
+
+			fail();
+		} catch(IOException ioe){
+			// Ignored
+		}
+	}
+
+	@Test
+	public void loadDirectory() throws IOException {
+		File dir = this.folder.newFolder("pkl");
+
+		write(new File(dir, "b.pkl"), "pickle");
+		write(new File(dir, "a.joblib"), "pickle");
+		write(new File(dir, "README.txt"), "text");
+
+		List<BatchEntry> entries = BatchEntry.load(dir, null);
+
+		assertEquals(2, entries.size());
+
+		assertEquals(new File(dir, "a.joblib"), (entries.get(0)).getInput());
+		assertEquals(new File(dir, "a.pmml"), (entries.get(0)).getOutput());
+		assertEquals(new File(dir, "b.pkl"), (entries.get(1)).getInput());
+		assertEquals(new File(dir, "b.pmml"), (entries.get(1)).getOutput());
+	}
+
+	@Test
+	public void loadDuplicateOutputs() throws IOException {
+		File dir = this.folder.newFolder("pkl");
+
+		write(new File(dir, "a.pkl"), "pickle");
+		write(new File(dir, "a.pkl.z"), "pickle");
+
+		try {
+			BatchEntry.load(dir, null);
+
+			fail();
+		} catch(IOException ioe){
+			// Ignored
+		}
+
+		File manifest = write(this.folder.newFile("batch.txt"), "pkl/a.pkl out.pmml", "pkl/b.pkl ./out.pmml");
+
+		try {
+			BatchEntry.load(manifest, null);
+
+			fail();
+		} catch(IOException ioe){
+			// Ignored
+		}
+	}
+
+	static
+	private File write(File file, String... lines) throws IOException {
+		file.getParentFile().mkdirs();
+
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+
+		return file;
+	}
+}
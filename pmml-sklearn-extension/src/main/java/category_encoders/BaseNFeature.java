@@ -18,8 +18,10 @@
  */
 package category_encoders;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -44,8 +46,9 @@ import org.jpmml.converter.FieldNameUtil;
 import org.jpmml.converter.IfElseBuilder;
 import org.jpmml.converter.PMMLEncoder;
 import org.jpmml.model.ToStringHelper;
+import sklearn.tree.HasSplitValues;
 
-public class BaseNFeature extends BinaryThresholdFeature {
+public class BaseNFeature extends BinaryThresholdFeature implements HasSplitValues {
 
 	private int base = -1;
 
@@ -58,6 +61,10 @@ public class BaseNFeature extends BinaryThresholdFeature {
 
 	private Integer defaultValue = null;
 
+	private ValueIndex valueIndex = null;
+
+	private int hashCode = 0;
+
 
 	public BaseNFeature(PMMLEncoder encoder, Field<?> field, int base, int index, SetMultimap<Integer, ?> values, Object missingCategory, Integer defaultValue){
 		this(encoder, field.requireName(), field.requireDataType(), base, index, values, missingCategory, defaultValue);
@@ -202,15 +209,73 @@ public class BaseNFeature extends BinaryThresholdFeature {
 		return result;
 	}
 
+	@Override
+	public Set<?> getLeftValues(double threshold){
+		ValueIndex valueIndex = getValueIndex();
+
+		return toValues(valueIndex.getLeftKeys(threshold));
+	}
+
+	@Override
+	public Set<?> getRightValues(double threshold){
+		ValueIndex valueIndex = getValueIndex();
+
+		return toValues(valueIndex.getRightKeys(threshold));
+	}
+
+	/**
+	 * <p>
+	 * Indexes category groups by base value.
+	 * </p>
+	 *
+	 * Category groups are live views of the inverse map.
+	 */
+	synchronized
+	private ValueIndex getValueIndex(){
+		Integer defaultValue = getDefaultValue();
+
+		// XXX
+		if(defaultValue != null){
+			throw new IllegalArgumentException();
+		} // End if
+
+		if(this.valueIndex == null){
+			SetMultimap<Integer, ?> values = getValues();
+
+			Map<Integer, ? extends Collection<?>> valueMap = values.asMap();
+
+			List<Map.Entry<Integer, ? extends Collection<?>>> entries = new ArrayList<>(valueMap.entrySet());
+			entries.sort((left, right) -> Integer.compare(left.getKey(), right.getKey()));
+
+			List<Collection<?>> categoryGroups = new ArrayList<>(entries.size());
+			List<Integer> baseValues = new ArrayList<>(entries.size());
+
+			for(Map.Entry<Integer, ? extends Collection<?>> entry : entries){
+				categoryGroups.add(entry.getValue());
+				baseValues.add(entry.getKey());
+			}
+
+			this.valueIndex = new ValueIndex(categoryGroups, baseValues);
+		}
+
+		return this.valueIndex;
+	}
+
 	@Override
 	public int hashCode(){
-		int result = super.hashCode();
+		int result = this.hashCode;
+
+		if(result == 0){
+			result = super.hashCode();
 
-		result = (31 * result) + Objects.hash(this.getBase());
-		result = (31 * result) + Objects.hash(this.getIndex());
-		result = (31 * result) + Objects.hash(this.getValues());
-		result = (31 * result) + Objects.hash(this.getMissingCategory());
-		result = (31 * result) + Objects.hash(this.getDefaultValue());
+			result = (31 * result) + Objects.hash(this.getBase());
+			result = (31 * result) + Objects.hash(this.getIndex());
+			result = (31 * result) + Objects.hash(this.getValues());
+			result = (31 * result) + Objects.hash(this.getMissingCategory());
+			result = (31 * result) + Objects.hash(this.getDefaultValue());
+
+			this.hashCode = result;
+		}
 
 		return result;
 	}
@@ -237,6 +302,17 @@ public class BaseNFeature extends BinaryThresholdFeature {
 			.add("defaultValue", getDefaultValue());
 	}
 
+	static
+	private Set<?> toValues(List<Object> categoryGroups){
+		Set<Object> result = new LinkedHashSet<>();
+
+		for(Object categoryGroup : categoryGroups){
+			result.addAll((Collection<?>)categoryGroup);
+		}
+
+		return result;
+	}
+
 	public int getBase(){
 		return this.base;
 	}
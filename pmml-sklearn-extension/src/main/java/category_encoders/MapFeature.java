@@ -18,9 +18,11 @@
  */
 package category_encoders;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -39,8 +41,9 @@ import org.jpmml.converter.PMMLEncoder;
 import org.jpmml.converter.ThresholdFeature;
 import org.jpmml.converter.TypeUtil;
 import org.jpmml.model.ToStringHelper;
+import sklearn.tree.HasSplitValues;
 
-public class MapFeature extends ThresholdFeature {
+public class MapFeature extends ThresholdFeature implements HasSplitValues {
 
 	private Map<?, ? extends Number> mapping = null;
 
@@ -48,6 +51,10 @@ public class MapFeature extends ThresholdFeature {
 
 	private Number defaultValue = null;
 
+	private ValueIndex valueIndex = null;
+
+	private int hashCode = 0;
+
 
 	public MapFeature(PMMLEncoder encoder, Field<?> field, Map<?, ? extends Number> mapping, Object missingCategory, Number defaultValue){
 		this(encoder, field.requireName(), field.requireDataType(), mapping, missingCategory, defaultValue);
@@ -116,13 +123,65 @@ public class MapFeature extends ThresholdFeature {
 		return result;
 	}
 
+	@Override
+	public Set<?> getLeftValues(double threshold){
+		ValueIndex valueIndex = getValueIndex();
+
+		return new LinkedHashSet<>(valueIndex.getLeftKeys(threshold));
+	}
+
+	@Override
+	public Set<?> getRightValues(double threshold){
+		ValueIndex valueIndex = getValueIndex();
+
+		return new LinkedHashSet<>(valueIndex.getRightKeys(threshold));
+	}
+
+	synchronized
+	private ValueIndex getValueIndex(){
+		Number defaultValue = getDefaultValue();
+
+		// XXX
+		if(defaultValue != null){
+			throw new IllegalArgumentException();
+		} // End if
+
+		if(this.valueIndex == null){
+			Map<?, ? extends Number> mapping = getMapping();
+
+			List<Object> keys = new ArrayList<>(mapping.size());
+			List<Number> values = new ArrayList<>(mapping.size());
+
+			Collection<? extends Map.Entry<?, ? extends Number>> entries = mapping.entrySet();
+			for(Map.Entry<?, ? extends Number> entry : entries){
+				keys.add(entry.getKey());
+				values.add(entry.getValue());
+			}
+
+			this.valueIndex = new ValueIndex(keys, values);
+		}
+
+		return this.valueIndex;
+	}
+
+	/**
+	 * <p>
+	 * The hash code is computed once, because the mapping may contain a very large number of categories.
+	 * </p>
+	 */
 	@Override
 	public int hashCode(){
-		int result = super.hashCode();
+		int result = this.hashCode;
 
-		result = (31 * result) + Objects.hash(this.getMapping());
-		result = (31 * result) + Objects.hash(this.getMissingCategory());
-		result = (31 * result) + Objects.hash(this.getDefaultValue());
+		if(result == 0){
+			result = super.hashCode();
+
+			result = (31 * result) + Objects.hash(this.getMapping());
+			result = (31 * result) + Objects.hash(this.getMissingCategory());
+			result = (31 * result) + Objects.hash(this.getDefaultValue());
+
+			this.hashCode = result;
+		}
 
 		return result;
 	}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package category_encoders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * An index of keys sorted by their mapped values.
+ * </p>
+ *
+ * Mapped values are compared as 32-bit floats.
+ * Keys that are mapped to NaN are excluded.
+ *
+ * @see sklearn.tree.HasSplitValues
+ */
+class ValueIndex {
+
+	private Object[] keys = null;
+
+	private float[] sortedValues = null;
+
+	private int[] sortedPositions = null;
+
+
+	ValueIndex(List<?> keys, List<? extends Number> values){
+
+		if(keys.size() != values.size()){
+			throw new IllegalArgumentException();
+		}
+
+		long[] entries = new long[values.size()];
+
+		int size = 0;
+
+		for(int i = 0; i < values.size(); i++){
+			float value = (values.get(i)).floatValue();
+
+			if(Float.isNaN(value)){
+				continue;
+			}
+
+			entries[size++] = ((long)toSortableBits(value) << 32) | (i & 0xFFFFFFFFL);
+		}
+
+		Arrays.sort(entries, 0, size);
+
+		this.keys = keys.toArray();
+		this.sortedValues = new float[size];
+		this.sortedPositions = new int[size];
+
+		for(int i = 0; i < size; i++){
+			int position = (int)entries[i];
+
+			this.sortedValues[i] = (values.get(position)).floatValue();
+			this.sortedPositions[i] = position;
+		}
+	}
+
+	/**
+	 * @return Keys whose mapped value is less than or equal to the threshold, in the original order.
+	 */
+	List<Object> getLeftKeys(double threshold){
+
+		if(Double.isNaN(threshold)){
+			return Collections.emptyList();
+		}
+
+		return select(0, upperBound(threshold));
+	}
+
+	/**
+	 * @return Keys whose mapped value is greater than the threshold, in the original order.
+	 */
+	List<Object> getRightKeys(double threshold){
+
+		if(Double.isNaN(threshold)){
+			return Collections.emptyList();
+		}
+
+		return select(upperBound(threshold), this.sortedValues.length);
+	}
+
+	private int upperBound(double threshold){
+		float[] sortedValues = this.sortedValues;
+
+		int low = 0;
+		int high = sortedValues.length;
+
+		while(low < high){
+			int mid = (low + high) >>> 1;
+
+			if((double)sortedValues[mid] <= threshold){
+				low = mid + 1;
+			} else
+
+			{
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	private List<Object> select(int begin, int end){
+		Object[] keys = this.keys;
+		int[] sortedPositions = this.sortedPositions;
+
+		BitSet positions = new BitSet(keys.length);
+
+		for(int i = begin; i < end; i++){
+			positions.set(sortedPositions[i]);
+		}
+
+		List<Object> result = new ArrayList<>(end - begin);
+
+		for(int position = positions.nextSetBit(0); position > -1; position = positions.nextSetBit(position + 1)){
+			result.add(keys[position]);
+		}
+
+		return result;
+	}
+
+	static
+	private int toSortableBits(float value){
+		int bits = Float.floatToIntBits(value);
+
+		return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package category_encoders;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import org.dmg.pmml.DataType;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MapFeatureTest {
+
+	@Test
+	public void getSplitValues(){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		Map<String, Number> mapping = new LinkedHashMap<>();
+		mapping.put("a", 0.5d);
+		mapping.put("b", -1.25d);
+		mapping.put("c", Double.NaN);
+		mapping.put("d", 0.5d);
+		mapping.put("e", -0d);
+		mapping.put("f", 0d);
+		mapping.put("g", 0.1d);
+		mapping.put("h", 3f);
+
+		MapFeature mapFeature = new MapFeature(encoder, "x", DataType.STRING, mapping, null, null);
+
+		for(double threshold : getThresholds()){
+			assertEquals(new ArrayList<>(mapFeature.getValues((Number value) -> (double)value.floatValue() <= threshold)), new ArrayList<>(mapFeature.getLeftValues(threshold)));
+			assertEquals(new ArrayList<>(mapFeature.getValues((Number value) -> (double)value.floatValue() > threshold)), new ArrayList<>(mapFeature.getRightValues(threshold)));
+		}
+
+		assertEquals(mapFeature.hashCode(), mapFeature.hashCode());
+		assertEquals(new MapFeature(encoder, "x", DataType.STRING, new LinkedHashMap<>(mapping), null, null).hashCode(), mapFeature.hashCode());
+	}
+
+	@Test
+	public void getBaseNSplitValues(){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		SetMultimap<Integer, String> values = LinkedHashMultimap.create();
+		values.put(2, "a");
+		values.put(0, "b");
+		values.put(1, "c");
+		values.put(2, "d");
+		values.put(0, "e");
+
+		BaseNFeature baseNFeature = new BaseNFeature(encoder, "x", DataType.STRING, 3, 0, values, null, null);
+
+		for(double threshold : getThresholds()){
+			assertEquals(new ArrayList<>(baseNFeature.getValues((Number value) -> (double)value.floatValue() <= threshold)), new ArrayList<>(baseNFeature.getLeftValues(threshold)));
+			assertEquals(new ArrayList<>(baseNFeature.getValues((Number value) -> (double)value.floatValue() > threshold)), new ArrayList<>(baseNFeature.getRightValues(threshold)));
+		}
+	}
+
+	static
+	private List<Double> getThresholds(){
+		List<Double> result = new ArrayList<>();
+
+		for(double threshold = -2d; threshold <= 4d; threshold += 0.05d){
+			result.add(threshold);
+		}
+
+		result.add(-0d);
+		result.add(0d);
+		result.add((double)0.1f);
+		result.add(0.1d);
+		result.add(Double.NaN);
+		result.add(Double.NEGATIVE_INFINITY);
+		result.add(Double.POSITIVE_INFINITY);
+
+		return result;
+	}
+}
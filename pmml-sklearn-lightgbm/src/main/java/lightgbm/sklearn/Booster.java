@@ -18,11 +18,9 @@
  */
 package lightgbm.sklearn;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.List;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import com.google.common.io.CharStreams;
 import org.jpmml.lightgbm.GBDT;
 import org.jpmml.lightgbm.LightGBMUtil;
 import org.jpmml.python.PythonObject;
@@ -45,20 +43,34 @@ public class Booster extends PythonObject {
 		return this.gbdt;
 	}
 
+	/**
+	 * <p>
+	 * Loads the GBDT by iterating over the lines of the pickled model string.
+	 * The pickled model string is released afterwards.
+	 * </p>
+	 */
 	private GBDT loadGBDT(){
 		String handle = getHandle();
 
-		try(StringReader reader = new StringReader(handle)){
-			List<String> lines = CharStreams.readLines(reader);
+		GBDT gbdt = LightGBMUtil.loadGBDT(new LineIterator(handle));
 
-			return LightGBMUtil.loadGBDT(lines.iterator());
-		} catch(IOException ioe){
-			throw new RuntimeException(ioe);
-		}
+		remove("handle");
+		remove("_handle");
+
+		return gbdt;
 	}
 
+	/**
+	 * @return The pickled model string, or <code>null</code> if it has already been released.
+	 *
+	 * @see #getGBDT()
+	 */
 	public String getHandle(){
 
+		if(this.gbdt != null){
+			return null;
+		} // End if
+
 		// LightGBM 3.3.5
 		if(containsKey("handle")){
 			return getString("handle");
@@ -67,4 +79,68 @@ public class Booster extends PythonObject {
 		// LightGBM 4.0.0+
 		return getString("_handle");
 	}
+
+	/**
+	 * <p>
+	 * Splits a string into lines on demand.
+	 * </p>
+	 *
+	 * Line terminators are the same as for the {@link java.io.BufferedReader#readLine()} method.
+	 */
+	static
+	private class LineIterator implements Iterator<String> {
+
+		private String string = null;
+
+		private int position = 0;
+
+
+		private LineIterator(String string){
+			this.string = string;
+		}
+
+		@Override
+		public boolean hasNext(){
+			return this.position < this.string.length();
+		}
+
+		@Override
+		public String next(){
+			String string = this.string;
+
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+
+			int begin = this.position;
+			int end = begin;
+
+			while(end < string.length()){
+				char c = string.charAt(end);
+
+				if(c == '\n' || c == '\r'){
+					break;
+				}
+
+				end++;
+			}
+
+			String line = string.substring(begin, end);
+
+			if(end < string.length()){
+
+				if(string.charAt(end) == '\r' && (end + 1) < string.length() && string.charAt(end + 1) == '\n'){
+					end += 2;
+				} else
+
+				{
+					end += 1;
+				}
+			}
+
+			this.position = end;
+
+			return line;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,540 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.xml.bind.JAXBException;
+import org.dmg.pmml.PMML;
+import org.jpmml.model.metro.MetroJAXBUtil;
+import org.jpmml.python.Storage;
+import org.jpmml.python.StorageUtil;
+import org.jpmml.sklearn.Encodable;
+import org.jpmml.sklearn.SkLearnConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A local HTTP server that converts pickle files to PMML.
+ * </p>
+ *
+ * <p>
+ * Endpoints:
+ * <ul>
+ *   <li><code>POST /convert</code>. The request body is a pickle file. Query parameters are conversion options (eg. <code>/convert?compact=false&amp;winner_id=true</code>). The response body is a PMML document.</li>
+ *   <li><code>GET /metrics</code>. Server metrics in Prometheus text exposition format.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Conversions, including the marshalling of the PMML document into a response buffer, run in a fixed-size pool of worker threads.
+ * The response status is sent only after the PMML document has been marshalled successfully.
+ * A request is rejected with status code 503 if all worker threads are busy and the queue is full,
+ * or if heap usage is above the limit.
+ * A request is rejected with status code 413 if the request body is larger than the limit.
+ * A request fails with status code 504 if the conversion does not complete in time.
+ * A timed out conversion is abandoned, but it keeps its worker thread (and its place in the queue) until it completes.
+ * </p>
+ */
+public class ConversionServer {
+
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	private int queueCapacity = 16;
+
+	private long timeout = TimeUnit.MINUTES.toMillis(5);
+
+	private long maxRequestSize = 1024L * 1024L * 1024L;
+
+	private double maxHeapUsage = 0.9d;
+
+	private SkLearnConverter converter = null;
+
+	private ServerMetrics metrics = new ServerMetrics();
+
+	private HttpServer httpServer = null;
+
+	private ExecutorService requestExecutor = null;
+
+	private ThreadPoolExecutor workerExecutor = null;
+
+	private Semaphore permits = null;
+
+
+	public ConversionServer(){
+	}
+
+	public void start(InetSocketAddress address) throws IOException {
+
+		if(this.httpServer != null){
+			throw new IllegalStateException("Server is already started");
+		}
+
+		this.converter = new SkLearnConverter();
+
+		this.permits = new Semaphore(this.threads + this.queueCapacity);
+
+		this.workerExecutor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		this.requestExecutor = Executors.newCachedThreadPool();
+
+		this.httpServer = HttpServer.create(address, 0);
+		this.httpServer.setExecutor(this.requestExecutor);
+
+		this.httpServer.createContext("/convert", this::handleConvert);
+		this.httpServer.createContext("/metrics", this::handleMetrics);
+
+		this.httpServer.start();
+
+		logger.info("Listening on {}", getAddress());
+	}
+
+	public void stop(){
+
+		if(this.httpServer == null){
+			return;
+		}
+
+		this.httpServer.stop(0);
+
+		this.requestExecutor.shutdownNow();
+		this.workerExecutor.shutdownNow();
+
+		this.httpServer = null;
+		this.requestExecutor = null;
+		this.workerExecutor = null;
+	}
+
+	public InetSocketAddress getAddress(){
+
+		if(this.httpServer == null){
+			throw new IllegalStateException("Server is not started");
+		}
+
+		return this.httpServer.getAddress();
+	}
+
+	private void handleConvert(HttpExchange exchange) throws IOException {
+		ServerMetrics metrics = getMetrics();
+
+		try {
+
+			if(!("POST").equals(exchange.getRequestMethod())){
+				metrics.recordRequest(ServerMetrics.Outcome.BAD_REQUEST);
+
+				sendError(exchange, 405, "Expected POST request");
+
+				return;
+			} // End if
+
+			if(isHeapExhausted()){
+				metrics.recordRequest(ServerMetrics.Outcome.REJECTED);
+
+				sendError(exchange, 503, "Heap usage is above the limit");
+
+				return;
+			} // End if
+
+			if(!this.permits.tryAcquire()){
+				metrics.recordRequest(ServerMetrics.Outcome.REJECTED);
+
+				sendError(exchange, 503, "All workers are busy");
+
+				return;
+			}
+
+			boolean submitted = false;
+
+			try {
+				Map<String, Object> options;
+
+				try {
+					options = parseOptions(exchange.getRequestURI().getRawQuery());
+				} catch(IllegalArgumentException iae){
+					metrics.recordRequest(ServerMetrics.Outcome.BAD_REQUEST);
+
+					sendError(exchange, 400, iae.getMessage());
+
+					return;
+				}
+
+				byte[] pickle = readRequestBody(exchange);
+				if(pickle == null){
+					metrics.recordRequest(ServerMetrics.Outcome.TOO_LARGE);
+
+					sendError(exchange, 413, "Request body is larger than " + this.maxRequestSize + " bytes");
+
+					return;
+				}
+
+				CompletableFuture<byte[]> future = new CompletableFuture<>();
+
+				this.workerExecutor.execute(() -> {
+
+					try {
+						// The client has given up
+						if(future.isDone()){
+							return;
+						}
+
+						future.complete(convert(pickle, options));
+					} catch(Throwable t){
+						future.completeExceptionally(t);
+					} finally {
+						this.permits.release();
+					}
+				});
+
+				submitted = true;
+
+				byte[] bytes;
+
+				try {
+					bytes = future.get(this.timeout, TimeUnit.MILLISECONDS);
+				} catch(TimeoutException te){
+					future.cancel(false);
+
+					metrics.recordRequest(ServerMetrics.Outcome.TIMED_OUT);
+
+					sendError(exchange, 504, "Conversion did not complete in " + this.timeout + " ms");
+
+					return;
+				} catch(ExecutionException ee){
+					Throwable cause = ee.getCause();
+
+					logger.warn("Failed to convert PKL to PMML", cause);
+
+					metrics.recordRequest(ServerMetrics.Outcome.FAILED);
+
+					sendError(exchange, 500, "Failed to convert PKL to PMML: " + cause);
+
+					return;
+				} catch(InterruptedException ie){
+					Thread.currentThread().interrupt();
+
+					metrics.recordRequest(ServerMetrics.Outcome.REJECTED);
+
+					sendError(exchange, 503, "Server is stopping");
+
+					return;
+				}
+
+				exchange.getResponseHeaders().set("Content-Type", "application/xml");
+				exchange.sendResponseHeaders(200, bytes.length);
+
+				try(OutputStream os = exchange.getResponseBody()){
+					os.write(bytes);
+				}
+
+				metrics.recordRequest(ServerMetrics.Outcome.SUCCESS);
+			} finally {
+
+				if(!submitted){
+					this.permits.release();
+				}
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void handleMetrics(HttpExchange exchange) throws IOException {
+		ServerMetrics metrics = getMetrics();
+
+		try {
+			if(!("GET").equals(exchange.getRequestMethod())){
+				sendError(exchange, 405, "Expected GET request");
+
+				return;
+			}
+
+			StringBuilder sb = new StringBuilder();
+
+			metrics.format(this.workerExecutor.getQueue().size(), sb);
+
+			byte[] bytes = (sb.toString()).getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+			exchange.sendResponseHeaders(200, bytes.length);
+
+			try(OutputStream os = exchange.getResponseBody()){
+				os.write(bytes);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * @return The PMML document.
+	 */
+	private byte[] convert(byte[] pickle, Map<String, ?> options) throws IOException, JAXBException {
+		ServerMetrics metrics = getMetrics();
+		SkLearnConverter converter = this.converter;
+
+		metrics.beginConversion();
+
+		long begin = System.nanoTime();
+
+		try(Storage storage = StorageUtil.createStorage(new ByteArrayInputStream(pickle))){
+			Encodable encodable = converter.unpickle(storage);
+
+			PMML pmml = converter.encodePMML(encodable, options);
+
+			ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+			MetroJAXBUtil.marshalPMML(pmml, os);
+
+			return os.toByteArray();
+		} finally {
+			long end = System.nanoTime();
+
+			metrics.endConversion(end - begin);
+		}
+	}
+
+	/**
+	 * @return The request body, or <code>null</code> if the request body is larger than the limit.
+	 */
+	private byte[] readRequestBody(HttpExchange exchange) throws IOException {
+		long maxRequestSize = this.maxRequestSize;
+
+		String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+		if(contentLength != null){
+
+			try {
+				if(Long.parseLong(contentLength) > maxRequestSize){
+					return null;
+				}
+			} catch(NumberFormatException nfe){
+				// Ignored
+			}
+		}
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[64 * 1024];
+
+		try(InputStream is = exchange.getRequestBody()){
+
+			while(true){
+				int count = is.read(buffer);
+
+				if(count < 0){
+					break;
+				} // End if
+
+				if((long)os.size() + count > maxRequestSize){
+					return null;
+				}
+
+				os.write(buffer, 0, count);
+			}
+		}
+
+		return os.toByteArray();
+	}
+
+	private boolean isHeapExhausted(){
+		MemoryUsage heapMemoryUsage = (ManagementFactory.getMemoryMXBean()).getHeapMemoryUsage();
+
+		long max = heapMemoryUsage.getMax();
+		if(max <= 0L){
+			return false;
+		}
+
+		return ((double)heapMemoryUsage.getUsed() / (double)max) > this.maxHeapUsage;
+	}
+
+	public ServerMetrics getMetrics(){
+		return this.metrics;
+	}
+
+	public int getThreads(){
+		return this.threads;
+	}
+
+	public void setThreads(int threads){
+
+		if(threads < 1){
+			throw new IllegalArgumentException("Number of threads must be positive");
+		}
+
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity(){
+		return this.queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity){
+
+		if(queueCapacity < 0){
+			throw new IllegalArgumentException("Queue capacity must be non-negative");
+		}
+
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * @return Timeout in milliseconds.
+	 */
+	public long getTimeout(){
+		return this.timeout;
+	}
+
+	public void setTimeout(long timeout){
+
+		if(timeout < 1L){
+			throw new IllegalArgumentException("Timeout must be positive");
+		}
+
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return Maximum request body size in bytes.
+	 */
+	public long getMaxRequestSize(){
+		return this.maxRequestSize;
+	}
+
+	public void setMaxRequestSize(long maxRequestSize){
+
+		if(maxRequestSize < 1L){
+			throw new IllegalArgumentException("Maximum request size must be positive");
+		}
+
+		this.maxRequestSize = maxRequestSize;
+	}
+
+	/**
+	 * @return Maximum heap usage, as a fraction of the maximum heap size.
+	 */
+	public double getMaxHeapUsage(){
+		return this.maxHeapUsage;
+	}
+
+	public void setMaxHeapUsage(double maxHeapUsage){
+
+		if(maxHeapUsage <= 0d || maxHeapUsage > 1d){
+			throw new IllegalArgumentException("Maximum heap usage must be in range (0, 1]");
+		}
+
+		this.maxHeapUsage = maxHeapUsage;
+	}
+
+	static
+	private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+
+		if(status == 503){
+			exchange.getResponseHeaders().set("Retry-After", "1");
+		}
+
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+
+		try(OutputStream os = exchange.getResponseBody()){
+			os.write(bytes);
+		}
+	}
+
+	static
+	Map<String, Object> parseOptions(String query){
+		Map<String, Object> result = new LinkedHashMap<>();
+
+		if(query == null || query.isEmpty()){
+			return result;
+		}
+
+		String[] tokens = query.split("&");
+		for(String token : tokens){
+
+			if(token.isEmpty()){
+				continue;
+			}
+
+			int index = token.indexOf('=');
+			if(index < 1){
+				throw new IllegalArgumentException("Expected a key=value option, got \'" + token + "\'");
+			}
+
+			String key = decode(token.substring(0, index));
+			String value = decode(token.substring(index + 1));
+
+			result.put(key, parseValue(value));
+		}
+
+		return result;
+	}
+
+	static
+	private String decode(String string){
+
+		try {
+			return URLDecoder.decode(string, "UTF-8");
+		} catch(UnsupportedEncodingException uee){
+			throw new RuntimeException(uee);
+		}
+	}
+
+	static
+	private Object parseValue(String value){
+
+		switch(value){
+			case "true":
+			case "false":
+				return Boolean.valueOf(value);
+			default:
+				break;
+		}
+
+		try {
+			return Integer.valueOf(value);
+		} catch(NumberFormatException nfe){
+			return value;
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(ConversionServer.class);
+}
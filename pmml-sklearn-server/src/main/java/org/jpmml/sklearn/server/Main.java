@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.server;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+
+public class Main {
+
+	@Parameter (
+		names = {"--help"},
+		description = "Show the list of configuration options and exit",
+		help = true
+	)
+	private boolean help = false;
+
+	@Parameter (
+		names = {"--host"},
+		description = "Host name or address to listen on"
+	)
+	private String host = "127.0.0.1";
+
+	@Parameter (
+		names = {"--port"},
+		description = "Port to listen on"
+	)
+	private int port = 8080;
+
+	@Parameter (
+		names = {"--threads"},
+		description = "Number of concurrent conversions. Defaults to the number of available processors"
+	)
+	private Integer threads = null;
+
+	@Parameter (
+		names = {"--queue-capacity"},
+		description = "Number of conversions that may wait for a free worker thread. Further requests are rejected with status code 503"
+	)
+	private int queueCapacity = 16;
+
+	@Parameter (
+		names = {"--timeout"},
+		description = "Conversion timeout in seconds. Timed out requests fail with status code 504"
+	)
+	private long timeout = 300L;
+
+	@Parameter (
+		names = {"--max-request-size"},
+		description = "Maximum size of the pickle request body in megabytes. Larger requests are rejected with status code 413"
+	)
+	private long maxRequestSize = 1024L;
+
+	@Parameter (
+		names = {"--max-heap-usage"},
+		description = "Maximum heap usage, as a fraction of the maximum heap size. Requests are rejected with status code 503 while heap usage is above it"
+	)
+	private double maxHeapUsage = 0.9d;
+
+
+	static
+	public void main(String... args) throws Exception {
+		Main main = new Main();
+
+		JCommander commander = new JCommander(main);
+		commander.setProgramName(Main.class.getName());
+
+		try {
+			commander.parse(args);
+
+			main.checkParameters();
+		} catch(ParameterException pe){
+			StringBuilder sb = new StringBuilder();
+
+			sb.append(pe.toString());
+			sb.append("\n");
+
+			commander.usage(sb);
+
+			System.err.println(sb.toString());
+
+			System.exit(-1);
+		}
+
+		if(main.help){
+			StringBuilder sb = new StringBuilder();
+
+			commander.usage(sb);
+
+			System.out.println(sb.toString());
+
+			System.exit(0);
+		}
+
+		main.run();
+	}
+
+	private void checkParameters(){
+
+		if(this.help){
+			return;
+		} // End if
+
+		if(this.threads != null && this.threads < 1){
+			throw new ParameterException("Option --threads must be positive");
+		} // End if
+
+		if(this.queueCapacity < 0){
+			throw new ParameterException("Option --queue-capacity must be non-negative");
+		} // End if
+
+		if(this.timeout < 1L){
+			throw new ParameterException("Option --timeout must be positive");
+		} // End if
+
+		if(this.maxRequestSize < 1L){
+			throw new ParameterException("Option --max-request-size must be positive");
+		} // End if
+
+		if(this.maxHeapUsage <= 0d || this.maxHeapUsage > 1d){
+			throw new ParameterException("Option --max-heap-usage must be in range (0, 1]");
+		}
+	}
+
+	public void run() throws Exception {
+		ConversionServer server = new ConversionServer();
+
+		if(this.threads != null){
+			server.setThreads(this.threads);
+		}
+
+		server.setQueueCapacity(this.queueCapacity);
+		server.setTimeout(TimeUnit.SECONDS.toMillis(this.timeout));
+		server.setMaxRequestSize(this.maxRequestSize * 1024L * 1024L);
+		server.setMaxHeapUsage(this.maxHeapUsage);
+
+		server.start(new InetSocketAddress(this.host, this.port));
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			server.stop();
+
+			latch.countDown();
+		}));
+
+		latch.await();
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.server;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Server metrics in Prometheus text exposition format.
+ * </p>
+ */
+public class ServerMetrics {
+
+	private LongAdder[] requests = new LongAdder[Outcome.values().length];
+
+	private LongAdder[] durationBuckets = new LongAdder[ServerMetrics.DURATION_BUCKETS.length];
+
+	private LongAdder durationSum = new LongAdder();
+
+	private LongAdder durationCount = new LongAdder();
+
+	private AtomicInteger activeConversions = new AtomicInteger();
+
+
+	public ServerMetrics(){
+
+		for(int i = 0; i < this.requests.length; i++){
+			this.requests[i] = new LongAdder();
+		}
+
+		for(int i = 0; i < this.durationBuckets.length; i++){
+			this.durationBuckets[i] = new LongAdder();
+		}
+	}
+
+	public void recordRequest(Outcome outcome){
+		this.requests[outcome.ordinal()].increment();
+	}
+
+	public void beginConversion(){
+		this.activeConversions.incrementAndGet();
+	}
+
+	public void endConversion(long nanos){
+		this.activeConversions.decrementAndGet();
+
+		double seconds = (nanos / 1e9);
+
+		for(int i = 0; i < ServerMetrics.DURATION_BUCKETS.length; i++){
+
+			if(seconds <= ServerMetrics.DURATION_BUCKETS[i]){
+				this.durationBuckets[i].increment();
+
+				break;
+			}
+		}
+
+		this.durationSum.add(nanos);
+		this.durationCount.increment();
+	}
+
+	public long getRequests(Outcome outcome){
+		return this.requests[outcome.ordinal()].sum();
+	}
+
+	public int getActiveConversions(){
+		return this.activeConversions.get();
+	}
+
+	/**
+	 * @param queuedConversions The number of conversions that are waiting for a worker thread.
+	 */
+	public void format(int queuedConversions, Appendable appendable) throws IOException {
+		appendable.append("# HELP jpmml_sklearn_requests_total Conversion requests by outcome.\n");
+		appendable.append("# TYPE jpmml_sklearn_requests_total counter\n");
+
+		for(Outcome outcome : Outcome.values()){
+			appendable.append("jpmml_sklearn_requests_total{outcome=\"").append(outcome.label()).append("\"} ").append(String.valueOf(getRequests(outcome))).append("\n");
+		}
+
+		appendable.append("# HELP jpmml_sklearn_conversion_duration_seconds Conversion latency, from unpickling to encoding.\n");
+		appendable.append("# TYPE jpmml_sklearn_conversion_duration_seconds histogram\n");
+
+		long cumulativeCount = 0L;
+
+		for(int i = 0; i < ServerMetrics.DURATION_BUCKETS.length; i++){
+			cumulativeCount += this.durationBuckets[i].sum();
+
+			appendable.append("jpmml_sklearn_conversion_duration_seconds_bucket{le=\"").append(String.valueOf(ServerMetrics.DURATION_BUCKETS[i])).append("\"} ").append(String.valueOf(cumulativeCount)).append("\n");
+		}
+
+		long count = this.durationCount.sum();
+
+		appendable.append("jpmml_sklearn_conversion_duration_seconds_bucket{le=\"+Inf\"} ").append(String.valueOf(count)).append("\n");
+		appendable.append("jpmml_sklearn_conversion_duration_seconds_sum ").append(String.valueOf(this.durationSum.sum() / 1e9)).append("\n");
+		appendable.append("jpmml_sklearn_conversion_duration_seconds_count ").append(String.valueOf(count)).append("\n");
+
+		appendable.append("# HELP jpmml_sklearn_conversions_active Conversions that are running.\n");
+		appendable.append("# TYPE jpmml_sklearn_conversions_active gauge\n");
+		appendable.append("jpmml_sklearn_conversions_active ").append(String.valueOf(getActiveConversions())).append("\n");
+
+		appendable.append("# HELP jpmml_sklearn_conversions_queued Conversions that are waiting for a worker thread.\n");
+		appendable.append("# TYPE jpmml_sklearn_conversions_queued gauge\n");
+		appendable.append("jpmml_sklearn_conversions_queued ").append(String.valueOf(queuedConversions)).append("\n");
+
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+		MemoryUsage heapMemoryUsage = memoryMXBean.getHeapMemoryUsage();
+
+		appendable.append("# HELP jvm_memory_heap_bytes Heap memory usage.\n");
+		appendable.append("# TYPE jvm_memory_heap_bytes gauge\n");
+		appendable.append("jvm_memory_heap_bytes{area=\"used\"} ").append(String.valueOf(heapMemoryUsage.getUsed())).append("\n");
+		appendable.append("jvm_memory_heap_bytes{area=\"committed\"} ").append(String.valueOf(heapMemoryUsage.getCommitted())).append("\n");
+		appendable.append("jvm_memory_heap_bytes{area=\"max\"} ").append(String.valueOf(heapMemoryUsage.getMax())).append("\n");
+	}
+
+	static
+	public enum Outcome {
+		SUCCESS,
+		REJECTED,
+		TIMED_OUT,
+		TOO_LARGE,
+		BAD_REQUEST,
+		FAILED,
+		;
+
+		public String label(){
+			return name().toLowerCase();
+		}
+	}
+
+	private static final double[] DURATION_BUCKETS = {0.01d, 0.05d, 0.1d, 0.25d, 0.5d, 1d, 2.5d, 5d, 10d, 30d, 60d, 300d};
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.dmg.pmml.PMML;
+import org.jpmml.model.metro.MetroJAXBUtil;
+import org.jpmml.sklearn.SkLearnConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionServerTest {
+
+	private ConversionServer server = null;
+
+
+	@Before
+	public void setUp() throws Exception {
+		this.server = new ConversionServer();
+		this.server.setThreads(2);
+		this.server.setQueueCapacity(2);
+		this.server.setMaxRequestSize(1024L * 1024L);
+
+		this.server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+	}
+
+	@After
+	public void tearDown(){
+		this.server.stop();
+	}
+
+	@Test
+	public void convert() throws Exception {
+		SkLearnConverter converter = new SkLearnConverter();
+
+		File file = getFile("DecisionTreeAudit");
+
+		byte[] pickle = Files.readAllBytes(file.toPath());
+
+		HttpURLConnection connection = post("/convert", pickle);
+
+		assertEquals(200, connection.getResponseCode());
+		assertEquals("application/xml", connection.getContentType());
+
+		long contentLength = connection.getContentLengthLong();
+
+		String body = readBody(connection);
+
+		assertEquals(contentLength, (body.getBytes(StandardCharsets.UTF_8)).length);
+
+		assertEquals(toString(converter.convert(file, Collections.emptyMap())), body.replaceFirst("\\s*<Timestamp>.*</Timestamp>", ""));
+
+		connection = post("/convert?compact=false", pickle);
+
+		assertEquals(200, connection.getResponseCode());
+
+		assertEquals(toString(converter.convert(file, Collections.singletonMap("compact", Boolean.FALSE))), readBody(connection).replaceFirst("\\s*<Timestamp>.*</Timestamp>", ""));
+
+		String metrics = get("/metrics");
+
+		assertTrue(metrics.contains("jpmml_sklearn_requests_total{outcome=\"success\"} 2\n"));
+		assertTrue(metrics.contains("jpmml_sklearn_conversion_duration_seconds_count 2\n"));
+		assertTrue(metrics.contains("jpmml_sklearn_conversions_active 0\n"));
+	}
+
+	@Test
+	public void reject() throws Exception {
+		HttpURLConnection connection = post("/convert", new byte[2 * 1024 * 1024]);
+
+		assertEquals(413, connection.getResponseCode());
+
+		connection = post("/convert", "Not a pickle".getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(500, connection.getResponseCode());
+
+		connection = post("/convert?compact", new byte[0]);
+
+		assertEquals(400, connection.getResponseCode());
+
+		connection = open("/convert");
+
+		assertEquals(405, connection.getResponseCode());
+
+		ServerMetrics metrics = this.server.getMetrics();
+
+		assertEquals(1L, metrics.getRequests(ServerMetrics.Outcome.TOO_LARGE));
+		assertEquals(1L, metrics.getRequests(ServerMetrics.Outcome.FAILED));
+		assertEquals(2L, metrics.getRequests(ServerMetrics.Outcome.BAD_REQUEST));
+	}
+
+	private HttpURLConnection open(String path) throws IOException {
+		InetSocketAddress address = this.server.getAddress();
+
+		URL url = new URL("http", address.getHostString(), address.getPort(), path);
+
+		return (HttpURLConnection)url.openConnection();
+	}
+
+	private HttpURLConnection post(String path, byte[] body) throws IOException {
+		HttpURLConnection connection = open(path);
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		connection.setFixedLengthStreamingMode(body.length);
+
+		try(OutputStream os = connection.getOutputStream()){
+			os.write(body);
+		} catch(IOException ioe){
+			// Ignored. The server may reject the request before reading its body
+		}
+
+		return connection;
+	}
+
+	private String get(String path) throws IOException {
+		HttpURLConnection connection = open(path);
+
+		assertEquals(200, connection.getResponseCode());
+
+		return readBody(connection);
+	}
+
+	static
+	private File getFile(String name) throws Exception {
+		URL url = ConversionServerTest.class.getResource("/pkl/" + name + ".pkl");
+
+		return new File(url.toURI());
+	}
+
+	static
+	private String readBody(HttpURLConnection connection) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		try(InputStream is = connection.getInputStream()){
+			byte[] buffer = new byte[1024];
+
+			for(int count = is.read(buffer); count > -1; count = is.read(buffer)){
+				os.write(buffer, 0, count);
+			}
+		}
+
+		return new String(os.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	static
+	private String toString(PMML pmml) throws Exception {
+		(pmml.getHeader()).setTimestamp(null);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		MetroJAXBUtil.marshalPMML(pmml, os);
+
+		return new String(os.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
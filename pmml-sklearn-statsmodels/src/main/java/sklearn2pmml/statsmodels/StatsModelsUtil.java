@@ -58,6 +58,7 @@ public class StatsModelsUtil {
 	}
 
 	static
+	synchronized
 	public void initOnce(){
 
 		if(!StatsModelsUtil.initialized){
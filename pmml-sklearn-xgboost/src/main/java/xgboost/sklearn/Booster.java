@@ -19,10 +19,12 @@
 package xgboost.sklearn;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteOrder;
 
+import com.google.common.io.LittleEndianDataInputStream;
 import org.jpmml.python.PythonObject;
 import org.jpmml.xgboost.Learner;
 import org.jpmml.xgboost.XGBoostUtil;
@@ -45,14 +47,37 @@ public class Booster extends PythonObject {
 		return this.learner;
 	}
 
+	/**
+	 * <p>
+	 * Loads the learner directly from the pickled byte array.
+	 * The pickled byte array is released afterwards.
+	 * </p>
+	 */
 	private Learner loadLearner(ByteOrder byteOrder, String charset){
 		byte[] handle = getHandle();
 
+		Learner learner;
+
 		try(InputStream is = new ByteArrayInputStream(handle)){
-			return XGBoostUtil.loadLearner(is, byteOrder, charset, "$.Model");
+
+			if((ByteOrder.LITTLE_ENDIAN).equals(byteOrder)){
+				learner = XGBoostUtil.loadLearner(new LittleEndianDataInputStream(is), charset, "$.Model");
+			} else
+
+			if((ByteOrder.BIG_ENDIAN).equals(byteOrder)){
+				learner = XGBoostUtil.loadLearner(new DataInputStream(is), charset, "$.Model");
+			} else
+
+			{
+				throw new IllegalArgumentException();
+			}
 		} catch(IOException ioe){
 			throw new RuntimeException(ioe);
 		}
+
+		remove("handle");
+
+		return learner;
 	}
 
 	public Integer getBestNTreeLimit(){
@@ -64,7 +89,17 @@ public class Booster extends PythonObject {
 		return getInteger("best_ntree_limit");
 	}
 
+	/**
+	 * @return The pickled byte array, or <code>null</code> if it has already been released.
+	 *
+	 * @see #getLearner(ByteOrder, String)
+	 */
 	public byte[] getHandle(){
+
+		if(this.learner != null){
+			return null;
+		}
+
 		return get("handle", byte[].class);
 	}
 }
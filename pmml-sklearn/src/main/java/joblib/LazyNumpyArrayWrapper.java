@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package joblib;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.io.ByteStreams;
+import numpy.DType;
+import numpy.core.NDArray;
+import numpy.core.PrimitiveArrayUtil;
+
+/**
+ * <p>
+ * A Joblib array wrapper that keeps the data of fixed-size numeric arrays in its raw byte buffer form.
+ * </p>
+ *
+ * The decoding of array elements is postponed until the array content is requested.
+ *
+ * @see PrimitiveArrayUtil
+ */
+public class LazyNumpyArrayWrapper extends NumpyArrayWrapper {
+
+	public LazyNumpyArrayWrapper(String module, String name){
+		super(module, name);
+	}
+
+	@Override
+	public NDArray toArray(InputStream is) throws IOException {
+		DType dtype = getDType();
+		Object[] shape = getShape();
+		String order = getOrder();
+		Integer numpyArrayAlignmentBytes = getNumpyArrayAlignmentBytes();
+
+		int size = PrimitiveArrayUtil.getItemSize(dtype);
+		if(size < 0){
+			return super.toArray(is);
+		}
+
+		long length = PrimitiveArrayUtil.getLength(shape) * size;
+		if(length > MAX_LENGTH){
+			return super.toArray(is);
+		} // End if
+
+		if(numpyArrayAlignmentBytes != null){
+			skipPadding(is, numpyArrayAlignmentBytes);
+		}
+
+		byte[] data = new byte[(int)length];
+
+		ByteStreams.readFully(is, data);
+
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, shape, dtype, "F".equals(order), data});
+
+		return array;
+	}
+
+	static
+	private void skipPadding(InputStream is, int maxPaddingLength) throws IOException {
+		int paddingLength = is.read();
+
+		if(paddingLength < 0){
+			throw new EOFException();
+		} // End if
+
+		if(paddingLength > maxPaddingLength){
+			throw new IOException();
+		}
+
+		for(int i = 0; i < paddingLength; i++){
+			int padding = is.read();
+
+			if(padding < 0){
+				throw new EOFException();
+			} // End if
+
+			if(padding != 0xFF){
+				throw new IOException();
+			}
+		}
+	}
+
+	private static final long MAX_LENGTH = (Integer.MAX_VALUE - 8);
+}
@@ -0,0 +1,707 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+import joblib.NDArrayWrapper;
+import numpy.DType;
+import org.jpmml.converter.ValueUtil;
+import org.jpmml.python.HasArray;
+import org.jpmml.python.PythonObject;
+
+/**
+ * <p>
+ * Utility methods for reading numeric Numpy arrays straight into Java primitive arrays.
+ * </p>
+ *
+ * If the Numpy array is backed by a raw byte buffer, then its elements are decoded in place,
+ * without materializing (and caching) the boxed array content.
+ * Otherwise, falls back to the boxed array content.
+ */
+public class PrimitiveArrayUtil {
+
+	private PrimitiveArrayUtil(){
+	}
+
+	static
+	public int[] getIntArray(PythonObject object, String name){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			Column column = getColumn(array, null);
+
+			return column.toIntArray();
+		}
+
+		return Ints.toArray(object.getNumberArray(name));
+	}
+
+	static
+	public int[] getIntArray(PythonObject object, String name, String key){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			Column column = getColumn(array, key);
+
+			if(column == null){
+				return null;
+			}
+
+			return column.toIntArray();
+		}
+
+		List<? extends Number> values = (List)object.getArray(name, key);
+		if(values == null){
+			return null;
+		}
+
+		return Ints.toArray(values);
+	}
+
+	static
+	public double[] getDoubleArray(PythonObject object, String name){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			Column column = getColumn(array, null);
+
+			return column.toDoubleArray();
+		}
+
+		return Doubles.toArray(object.getNumberArray(name));
+	}
+
+	static
+	public double[] getDoubleArray(PythonObject object, String name, String key){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			Column column = getColumn(array, key);
+
+			if(column == null){
+				return null;
+			}
+
+			return column.toDoubleArray();
+		}
+
+		List<? extends Number> values = (List)object.getArray(name, key);
+		if(values == null){
+			return null;
+		}
+
+		return Doubles.toArray(values);
+	}
+
+	/**
+	 * <p>
+	 * Gets the elements of a Numpy array in row-major order.
+	 * </p>
+	 *
+	 * If the Numpy array is backed by a raw byte buffer, then the elements are decoded in a single pass into a primitive array.
+	 * The result is a list view of that primitive array, whose boxed elements have the same Java type as in the boxed array content.
+	 */
+	static
+	public List<? extends Number> getNumberArray(PythonObject object, String name){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			Object descr = array.getDescr();
+
+			if(descr instanceof DType){
+				DType dtype = (DType)descr;
+
+				descr = dtype.toDescr();
+			} // End if
+
+			if(descr instanceof String){
+				TypeDescriptor descriptor = new TypeDescriptor((String)descr);
+
+				if(descriptor.getKind() != TypeDescriptor.Kind.BOOLEAN){
+					Column column = getColumn(array, null);
+
+					return (column.toColumns(column.length, 1)).get(0);
+				}
+			}
+		}
+
+		return object.getNumberArray(name);
+	}
+
+	/**
+	 * <p>
+	 * Splits a two-dimensional row-major Numpy array into columns.
+	 * </p>
+	 *
+	 * If the Numpy array is backed by a raw byte buffer, then the elements are decoded in a single pass into primitive arrays.
+	 * The columns are list views of those primitive arrays, whose boxed elements have the same Java type as in the boxed array content.
+	 */
+	static
+	public List<List<? extends Number>> getColumns(PythonObject object, String name){
+		NDArray array = toRawArray(object.get(name));
+
+		if(array != null){
+			List<List<? extends Number>> result = getColumns(array);
+
+			if(result != null){
+				return result;
+			}
+		}
+
+		int[] shape = object.getArrayShape(name, 2);
+
+		return transpose(object.getNumberArray(name), shape[0], shape[1]);
+	}
+
+	/**
+	 * @see #getColumns(PythonObject, String)
+	 */
+	static
+	public List<List<? extends Number>> getColumns(HasArray hasArray){
+		NDArray array = toRawArray(hasArray);
+
+		if(array != null){
+			List<List<? extends Number>> result = getColumns(array);
+
+			if(result != null){
+				return result;
+			}
+		}
+
+		int[] shape = hasArray.getArrayShape();
+
+		if(shape.length != 2){
+			throw new IllegalArgumentException("Expected 2-dimensional array, got " + shape.length + "-dimensional (" + Arrays.toString(shape) + ") array");
+		}
+
+		return transpose((List<? extends Number>)hasArray.getArrayContent(), shape[0], shape[1]);
+	}
+
+	/**
+	 * <p>
+	 * Splits a flat row-major matrix into columns in a single pass.
+	 * </p>
+	 */
+	static
+	public <E> List<List<? extends E>> transpose(List<? extends E> values, int rows, int columns){
+
+		if(values.size() != (rows * columns)){
+			throw new IllegalArgumentException("Expected " + (rows * columns) + " element(s), got " + values.size() + " element(s)");
+		}
+
+		List<List<E>> result = new ArrayList<>(columns);
+
+		for(int column = 0; column < columns; column++){
+			result.add(new ArrayList<>(rows));
+		}
+
+		int index = 0;
+
+		for(E value : values){
+			List<E> columnValues = result.get(index % columns);
+
+			columnValues.add(value);
+
+			index++;
+		}
+
+		return (List)result;
+	}
+
+	/**
+	 * @return The size of a single array element in bytes, or <code>-1</code> if the data type is not supported.
+	 */
+	static
+	public int getItemSize(Object descr){
+		Integer wSize = null;
+
+		if(descr instanceof DType){
+			DType dtype = (DType)descr;
+
+			wSize = dtype.getWSize();
+			descr = dtype.toDescr();
+		} // End if
+
+		if(descr instanceof String){
+			TypeDescriptor descriptor = new TypeDescriptor((String)descr);
+
+			return getSize(descriptor);
+		} else
+
+		if(descr instanceof List){
+			List<?> dims = (List<?>)descr;
+
+			int size = 0;
+
+			for(Object dim : dims){
+				Object[] nameDescr = (Object[])dim;
+
+				if(!(nameDescr[1] instanceof String)){
+					return -1;
+				}
+
+				TypeDescriptor descriptor = new TypeDescriptor((String)nameDescr[1]);
+
+				int dimSize = getSize(descriptor);
+				if(dimSize < 0){
+					return -1;
+				}
+
+				size += dimSize;
+			}
+
+			if(wSize != null){
+
+				if(wSize < size){
+					throw new IllegalArgumentException();
+				}
+
+				return wSize;
+			}
+
+			return size;
+		}
+
+		return -1;
+	}
+
+	static
+	public long getLength(Object[] shape){
+		long result = 1;
+
+		for(Object dim : shape){
+			result *= ValueUtil.asInt((Number)dim);
+		}
+
+		return result;
+	}
+
+	static
+	private List<List<? extends Number>> getColumns(NDArray array){
+		Object[] shape = array.getShape();
+		Object descr = array.getDescr();
+
+		if(descr instanceof DType){
+			DType dtype = (DType)descr;
+
+			descr = dtype.toDescr();
+		} // End if
+
+		if(shape.length == 2 && (descr instanceof String)){
+			TypeDescriptor descriptor = new TypeDescriptor((String)descr);
+
+			if(descriptor.getKind() != TypeDescriptor.Kind.BOOLEAN){
+				Column column = getColumn(array, null);
+
+				return column.toColumns(ValueUtil.asInt((Number)shape[0]), ValueUtil.asInt((Number)shape[1]));
+			}
+		}
+
+		return null;
+	}
+
+	static
+	private NDArray toRawArray(Object object){
+
+		if(object instanceof NDArrayWrapper){
+			NDArrayWrapper arrayWrapper = (NDArrayWrapper)object;
+
+			object = arrayWrapper.getContent();
+		} // End if
+
+		if(object instanceof NDArray){
+			NDArray array = (NDArray)object;
+
+			Object[] shape = array.getShape();
+			Boolean fortranOrder = array.getFortranOrder();
+
+			if((Boolean.TRUE).equals(fortranOrder) && shape.length > 1){
+				return null;
+			}
+
+			Object data = array.get("data");
+			if(!(data instanceof byte[]) && !(data instanceof String)){
+				return null;
+			}
+
+			int size = getItemSize(array.getDescr());
+			if(size < 0){
+				return null;
+			}
+
+			return array;
+		}
+
+		return null;
+	}
+
+	static
+	private Column getColumn(NDArray array, String key){
+		Object descr = array.getDescr();
+		byte[] data = getData(array);
+
+		int length = Math.toIntExact(getLength(array.getShape()));
+		int stride = getItemSize(descr);
+
+		if(descr instanceof DType){
+			DType dtype = (DType)descr;
+
+			descr = dtype.toDescr();
+		} // End if
+
+		if(((long)length * (long)stride) > data.length){
+			throw new IllegalArgumentException("Expected " + ((long)length * (long)stride) + " byte(s), got " + data.length + " byte(s)");
+		} // End if
+
+		if(descr instanceof String){
+
+			if(key != null){
+				throw new IllegalArgumentException("Expected a structured array, got a simple array");
+			}
+
+			TypeDescriptor descriptor = new TypeDescriptor((String)descr);
+
+			return new Column(data, descriptor, 0, stride, length);
+		} else
+
+		{
+			if(key == null){
+				throw new IllegalArgumentException("Expected a simple array, got a structured array");
+			}
+
+			List<?> dims = (List<?>)descr;
+
+			int offset = 0;
+
+			for(Object dim : dims){
+				Object[] nameDescr = (Object[])dim;
+
+				TypeDescriptor descriptor = new TypeDescriptor((String)nameDescr[1]);
+
+				if((key).equals(nameDescr[0])){
+					return new Column(data, descriptor, offset, stride, length);
+				}
+
+				offset += getSize(descriptor);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gets the raw byte buffer of a Numpy array.
+	 * </p>
+	 *
+	 * Python 2 pickles (and Python 3 pickles that have been loaded using the "latin1" encoding) store it as a string,
+	 * where every character corresponds to a single byte.
+	 */
+	static
+	private byte[] getData(NDArray array){
+		Object data = array.getData();
+
+		if(data instanceof String){
+			String string = (String)data;
+
+			return string.getBytes(StandardCharsets.ISO_8859_1);
+		}
+
+		return (byte[])data;
+	}
+
+	static
+	private int getSize(TypeDescriptor descriptor){
+		TypeDescriptor.Kind kind = descriptor.getKind();
+		int size = descriptor.getSize();
+
+		switch(kind){
+			case BOOLEAN:
+				return (size == 1) ? size : -1;
+			case INTEGER:
+			case UNSIGNED_INTEGER:
+				return (size == 1 || size == 2 || size == 4 || size == 8) ? size : -1;
+			case FLOAT:
+				return (size == 4 || size == 8) ? size : -1;
+			default:
+				return -1;
+		}
+	}
+
+	static
+	private class Column {
+
+		private ByteBuffer buffer = null;
+
+		private TypeDescriptor descriptor = null;
+
+		private int offset = 0;
+
+		private int stride = 0;
+
+		private int length = 0;
+
+
+		private Column(byte[] data, TypeDescriptor descriptor, int offset, int stride, int length){
+			ByteOrder byteOrder = descriptor.getByteOrder();
+
+			this.buffer = ByteBuffer.wrap(data)
+				.order(byteOrder != null ? byteOrder : ByteOrder.nativeOrder());
+			this.descriptor = descriptor;
+			this.offset = offset;
+			this.stride = stride;
+			this.length = length;
+		}
+
+		public int[] toIntArray(){
+			int[] result = new int[this.length];
+
+			for(int i = 0; i < this.length; i++){
+				int position = this.offset + (i * this.stride);
+
+				result[i] = readInt(position);
+			}
+
+			return result;
+		}
+
+		public double[] toDoubleArray(){
+			double[] result = new double[this.length];
+
+			for(int i = 0; i < this.length; i++){
+				int position = this.offset + (i * this.stride);
+
+				result[i] = readDouble(position);
+			}
+
+			return result;
+		}
+
+		/**
+		 * @param rows The number of rows.
+		 * @param columns The number of columns.
+		 */
+		public List<List<? extends Number>> toColumns(int rows, int columns){
+			TypeDescriptor descriptor = this.descriptor;
+
+			if(((long)rows * (long)columns) != this.length){
+				throw new IllegalArgumentException("Expected " + this.length + " element(s), got " + ((long)rows * (long)columns) + " element(s)");
+			}
+
+			TypeDescriptor.Kind kind = descriptor.getKind();
+			int size = descriptor.getSize();
+
+			List<List<? extends Number>> result = new ArrayList<>(columns);
+
+			switch(kind){
+				case INTEGER:
+				case UNSIGNED_INTEGER:
+					// Box elements the same way as TypeDescriptor#read(InputStream)
+					boolean unsigned = (kind == TypeDescriptor.Kind.UNSIGNED_INTEGER);
+
+					if(!unsigned && size == 1){
+						byte[][] values = new byte[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = (byte)readLong(this.offset + (i * this.stride));
+							}
+						}
+
+						for(byte[] columnValues : values){
+							result.add(Bytes.asList(columnValues));
+						}
+					} else
+
+					if(!unsigned && size == 2){
+						short[][] values = new short[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = (short)readLong(this.offset + (i * this.stride));
+							}
+						}
+
+						for(short[] columnValues : values){
+							result.add(Shorts.asList(columnValues));
+						}
+					} else
+
+					if((!unsigned && size == 4) || (unsigned && size <= 2)){
+						int[][] values = new int[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = (int)readLong(this.offset + (i * this.stride));
+							}
+						}
+
+						for(int[] columnValues : values){
+							result.add(Ints.asList(columnValues));
+						}
+					} else
+
+					{
+						long[][] values = new long[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = readLong(this.offset + (i * this.stride));
+							}
+						}
+
+						for(long[] columnValues : values){
+							result.add(Longs.asList(columnValues));
+						}
+					}
+					break;
+				case FLOAT:
+					if(size == 4){
+						float[][] values = new float[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = this.buffer.getFloat(this.offset + (i * this.stride));
+							}
+						}
+
+						for(float[] columnValues : values){
+							result.add(Floats.asList(columnValues));
+						}
+					} else
+
+					{
+						double[][] values = new double[columns][rows];
+
+						for(int row = 0, i = 0; row < rows; row++){
+
+							for(int column = 0; column < columns; column++, i++){
+								values[column][row] = this.buffer.getDouble(this.offset + (i * this.stride));
+							}
+						}
+
+						for(double[] columnValues : values){
+							result.add(Doubles.asList(columnValues));
+						}
+					}
+					break;
+				default:
+					throw new IllegalArgumentException(descriptor.getDescr());
+			}
+
+			return result;
+		}
+
+		private int readInt(int position){
+			ByteBuffer buffer = this.buffer;
+			TypeDescriptor descriptor = this.descriptor;
+
+			TypeDescriptor.Kind kind = descriptor.getKind();
+			int size = descriptor.getSize();
+
+			switch(kind){
+				case INTEGER:
+				case UNSIGNED_INTEGER:
+					return (int)readLong(position);
+				case FLOAT:
+					switch(size){
+						case 4:
+							return (int)buffer.getFloat(position);
+						case 8:
+							return (int)buffer.getDouble(position);
+						default:
+							break;
+					}
+					break;
+				default:
+					break;
+			}
+
+			throw new IllegalArgumentException(descriptor.getDescr());
+		}
+
+		private double readDouble(int position){
+			ByteBuffer buffer = this.buffer;
+			TypeDescriptor descriptor = this.descriptor;
+
+			TypeDescriptor.Kind kind = descriptor.getKind();
+			int size = descriptor.getSize();
+
+			switch(kind){
+				case INTEGER:
+				case UNSIGNED_INTEGER:
+					return (double)readLong(position);
+				case FLOAT:
+					switch(size){
+						case 4:
+							return (double)buffer.getFloat(position);
+						case 8:
+							return buffer.getDouble(position);
+						default:
+							break;
+					}
+					break;
+				default:
+					break;
+			}
+
+			throw new IllegalArgumentException(descriptor.getDescr());
+		}
+
+		private long readLong(int position){
+			ByteBuffer buffer = this.buffer;
+			TypeDescriptor descriptor = this.descriptor;
+
+			TypeDescriptor.Kind kind = descriptor.getKind();
+			int size = descriptor.getSize();
+
+			boolean unsigned = (kind == TypeDescriptor.Kind.UNSIGNED_INTEGER);
+
+			switch(size){
+				case 1:
+					return unsigned ? Byte.toUnsignedLong(buffer.get(position)) : buffer.get(position);
+				case 2:
+					return unsigned ? Short.toUnsignedLong(buffer.getShort(position)) : buffer.getShort(position);
+				case 4:
+					return unsigned ? Integer.toUnsignedLong(buffer.getInt(position)) : buffer.getInt(position);
+				case 8:
+					return buffer.getLong(position);
+				default:
+					throw new IllegalArgumentException(descriptor.getDescr());
+			}
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * An on-disk cache of PMML files.
+ * </p>
+ *
+ * A cache entry is keyed by the digest of the pickle file, the conversion options and the JPMML-SkLearn version.
+ * If the JPMML-SkLearn version is not known, then the cache is disabled,
+ * because cache entries could not be told apart from the cache entries of other (eg. locally modified) converter builds.
+ * Cache entries are evicted in least recently used order, as soon as the total size of the cache exceeds the specified limit.
+ *
+ * <p>
+ * The cache directory may be shared between threads and processes.
+ * Cache entries are written atomically, and a cache entry that is evicted concurrently is treated as a cache miss.
+ * </p>
+ *
+ * @see #computeKey(File, Map)
+ */
+public class ConversionCache {
+
+	private Path directory = null;
+
+	private long maxSize = 0L;
+
+	private String version = null;
+
+
+	public ConversionCache(File directory, long maxSize) throws IOException {
+		this(directory, maxSize, getVersion());
+	}
+
+	/**
+	 * @param version The converter version, or <code>null</code> if the converter version is not known.
+	 */
+	public ConversionCache(File directory, long maxSize, String version) throws IOException {
+		this.directory = Files.createDirectories(directory.toPath());
+
+		if(maxSize < 0L){
+			throw new IllegalArgumentException("Maximum size must be non-negative");
+		}
+
+		this.maxSize = maxSize;
+		this.version = version;
+	}
+
+	/**
+	 * @return <code>true</code> if the converter version is known, <code>false</code> otherwise.
+	 */
+	public boolean isEnabled(){
+		return (this.version != null);
+	}
+
+	/**
+	 * <p>
+	 * Converts a pickle file to a PMML file, unless an up-to-date PMML file is available in the cache.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the PMML file was copied from the cache, <code>false</code> otherwise.
+	 *
+	 * @see SkLearnConverter
+	 */
+	public boolean convert(File input, Map<String, ?> options, File output) throws Exception {
+		String key = null;
+
+		if(isEnabled()){
+			key = computeKey(input, options);
+
+			if(get(key, output)){
+				return true;
+			}
+		}
+
+		SkLearnConverter converter = new SkLearnConverter();
+
+		try(OutputStream os = new FileOutputStream(output)){
+			converter.convert(input, options, os);
+		}
+
+		if(key != null){
+			put(key, output);
+		}
+
+		return false;
+	}
+
+	/**
+	 * @param options Conversion options. Options with <code>null</code> values are ignored.
+	 * Option values are distinguished by their Java type, so that equal-looking values such as <code>"1"</code> and <code>1</code> produce different keys.
+	 *
+	 * @return A hex-encoded SHA-256 digest.
+	 *
+	 * @throws IllegalStateException If the cache is disabled.
+	 */
+	public String computeKey(File input, Map<String, ?> options) throws IOException {
+
+		if(!isEnabled()){
+			throw new IllegalStateException("The converter version is not known");
+		}
+
+		MessageDigest digest = createDigest();
+
+		byte[] buffer = new byte[64 * 1024];
+
+		try(InputStream is = Files.newInputStream(input.toPath())){
+
+			while(true){
+				int count = is.read(buffer);
+
+				if(count < 0){
+					break;
+				}
+
+				digest.update(buffer, 0, count);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		Map<String, ?> sortedOptions = new TreeMap<>(options);
+
+		for(Map.Entry<String, ?> entry : sortedOptions.entrySet()){
+			String key = entry.getKey();
+			Object value = entry.getValue();
+
+			if(value == null){
+				continue;
+			}
+
+			sb.append('\n').append(key).append('=').append((value.getClass()).getName()).append(':').append(value);
+		}
+
+		sb.append('\n').append(this.version);
+
+		digest.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+		return toHexString(digest.digest());
+	}
+
+	/**
+	 * <p>
+	 * Copies the cached PMML file to the specified output file.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the cache entry was found, <code>false</code> otherwise.
+	 */
+	public boolean get(String key, File output) throws IOException {
+		Path path = getPath(key);
+
+		try {
+			Files.copy(path, output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch(NoSuchFileException nsfe){
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Copies the specified PMML file to the cache.
+	 * </p>
+	 */
+	public void put(String key, File output) throws IOException {
+		Path path = getPath(key);
+
+		Path tmpPath = Files.createTempFile(this.directory, key, ".tmp");
+
+		try {
+			Files.copy(output.toPath(), tmpPath, StandardCopyOption.REPLACE_EXISTING);
+
+			Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmpPath);
+		}
+
+		evict();
+	}
+
+	synchronized
+	private void evict() throws IOException {
+		List<Entry> entries = new ArrayList<>();
+
+		long size = 0L;
+
+		try(DirectoryStream<Path> paths = Files.newDirectoryStream(this.directory, "*" + ConversionCache.EXTENSION)){
+
+			for(Path path : paths){
+				Entry entry;
+
+				try {
+					entry = new Entry(path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+				} catch(NoSuchFileException nsfe){
+					continue;
+				}
+
+				entries.add(entry);
+
+				size += entry.size;
+			}
+		}
+
+		if(size <= this.maxSize){
+			return;
+		}
+
+		entries.sort(Comparator.comparingLong(entry -> entry.lastModified));
+
+		for(Entry entry : entries){
+
+			if(size <= this.maxSize){
+				break;
+			}
+
+			Files.deleteIfExists(entry.path);
+
+			size -= entry.size;
+		}
+	}
+
+	private Path getPath(String key){
+		return this.directory.resolve(key + ConversionCache.EXTENSION);
+	}
+
+	public File getDirectory(){
+		return this.directory.toFile();
+	}
+
+	public long getMaxSize(){
+		return this.maxSize;
+	}
+
+	public String getConverterVersion(){
+		return this.version;
+	}
+
+	/**
+	 * @return The JPMML-SkLearn version, or <code>null</code> if the version is not known (eg. running from a class directory).
+	 */
+	static
+	public String getVersion(){
+		Package _package = EncodableUtil.class.getPackage();
+
+		return _package.getImplementationVersion();
+	}
+
+	static
+	private MessageDigest createDigest(){
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch(NoSuchAlgorithmException nsae){
+			throw new RuntimeException(nsae);
+		}
+	}
+
+	static
+	private String toHexString(byte[] bytes){
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for(byte b : bytes){
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+	static
+	private class Entry {
+
+		private Path path = null;
+
+		private long size = 0L;
+
+		private long lastModified = 0L;
+
+
+		private Entry(Path path, long size, long lastModified){
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+	}
+
+	private static final String EXTENSION = ".pmml";
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import sklearn.Estimator;
+import sklearn.Step;
+import sklearn.Transformer;
+import sklearn.tree.visitors.AbstractIterativeTreeModelTransformer;
+
+/**
+ * <p>
+ * Records the cost of encoding individual pipeline steps.
+ * </p>
+ *
+ * A profiler is activated for the current thread.
+ * Transformer and estimator steps that are encoded in the current thread while the profiler is active
+ * are recorded as a tree of {@link Profile profiles}, which mirrors the nesting of steps.
+ * All metrics are inclusive of nested steps.
+ *
+ * <p>
+ * Wall time and allocated bytes are measured in the current thread only.
+ * Work that is off-loaded to other threads (eg. parallel encoding of tree ensemble members) is excluded from allocated bytes.
+ * </p>
+ *
+ * @see #activate()
+ * @see #deactivate()
+ */
+public class EncodingProfiler {
+
+	private List<Profile> profiles = new ArrayList<>();
+
+	private Deque<Profile> stack = new ArrayDeque<>();
+
+	private Set<TreeModel> countedTreeModels = Collections.newSetFromMap(new IdentityHashMap<>());
+
+
+	public EncodingProfiler(){
+	}
+
+	public void activate(){
+		EncodingProfiler.current.set(this);
+	}
+
+	public void deactivate(){
+		EncodingProfiler.current.remove();
+	}
+
+	public List<Profile> getProfiles(){
+		return this.profiles;
+	}
+
+	public <E> E record(Step step, Supplier<E> supplier){
+		Profile profile = new Profile(step);
+
+		Profile parentProfile = this.stack.peek();
+		if(parentProfile != null){
+			parentProfile.profiles.add(profile);
+		} else
+
+		{
+			this.profiles.add(profile);
+		}
+
+		this.stack.push(profile);
+
+		long beginTime = System.nanoTime();
+		long beginBytes = getAllocatedBytes();
+
+		E result;
+
+		try {
+			result = supplier.get();
+		} finally {
+			long endTime = System.nanoTime();
+			long endBytes = getAllocatedBytes();
+
+			this.stack.pop();
+
+			profile.wallTime = (endTime - beginTime);
+			profile.allocatedBytes = (beginBytes >= 0 && endBytes >= 0) ? (endBytes - beginBytes) : -1L;
+
+			if(parentProfile != null){
+				parentProfile.derivedFields += profile.derivedFields;
+				parentProfile.exports += profile.exports;
+				parentProfile.renames += profile.renames;
+			}
+		}
+
+		if(result instanceof Model){
+			Model model = (Model)result;
+
+			profile.nodes += countNodes(model);
+		} // End if
+
+		if(parentProfile != null){
+			parentProfile.nodes += profile.nodes;
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Formats profiles as a JSON object.
+	 * </p>
+	 *
+	 * @param attributes Additional top-level attributes. String, number and boolean values are supported.
+	 */
+	public void format(Map<String, ?> attributes, Appendable appendable) throws IOException {
+		appendable.append("{");
+
+		Collection<? extends Map.Entry<String, ?>> entries = attributes.entrySet();
+		for(Map.Entry<String, ?> entry : entries){
+			String key = entry.getKey();
+			Object value = entry.getValue();
+
+			appendable.append("\n\t");
+			formatString(key, appendable);
+			appendable.append(": ");
+
+			if(value instanceof Number){
+				formatNumber((Number)value, appendable);
+			} else
+
+			if((value == null) || (value instanceof Boolean)){
+				appendable.append(String.valueOf(value));
+			} else
+
+			{
+				formatString(String.valueOf(value), appendable);
+			}
+
+			appendable.append(",");
+		}
+
+		appendable.append("\n\t\"steps\": ");
+		format(this.profiles, "\t", appendable);
+
+		appendable.append("\n}");
+	}
+
+	public String format(Map<String, ?> attributes){
+		StringBuilder sb = new StringBuilder();
+
+		try {
+			format(attributes, sb);
+		} catch(IOException ioe){
+			throw new RuntimeException(ioe);
+		}
+
+		return sb.toString();
+	}
+
+	private void update(int derivedFields, int exports, int renames){
+		Profile profile = this.stack.peek();
+
+		if(profile == null){
+			return;
+		}
+
+		profile.derivedFields += derivedFields;
+		profile.exports += exports;
+		profile.renames += renames;
+	}
+
+	static
+	public EncodingProfiler getCurrent(){
+		return EncodingProfiler.current.get();
+	}
+
+	static
+	public <E> E profile(Step step, Supplier<E> supplier){
+		EncodingProfiler profiler = getCurrent();
+
+		if(profiler == null){
+			return supplier.get();
+		}
+
+		return profiler.record(step, supplier);
+	}
+
+	static
+	void countDerivedFields(int count){
+		EncodingProfiler profiler = getCurrent();
+
+		if(profiler != null){
+			profiler.update(count, 0, 0);
+		}
+	}
+
+	static
+	void countExports(int count){
+		EncodingProfiler profiler = getCurrent();
+
+		if(profiler != null){
+			profiler.update(0, count, 0);
+		}
+	}
+
+	static
+	void countRenames(int count){
+		EncodingProfiler profiler = getCurrent();
+
+		if(profiler != null){
+			profiler.update(0, 0, count);
+		}
+	}
+
+	static
+	private long getAllocatedBytes(){
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if(threadMXBean instanceof com.sun.management.ThreadMXBean){
+			com.sun.management.ThreadMXBean extThreadMXBean = (com.sun.management.ThreadMXBean)threadMXBean;
+
+			if(extThreadMXBean.isThreadAllocatedMemorySupported() && extThreadMXBean.isThreadAllocatedMemoryEnabled()){
+				return extThreadMXBean.getCurrentThreadAllocatedBytes();
+			}
+		}
+
+		return -1L;
+	}
+
+	/**
+	 * <p>
+	 * Counts the nodes of tree models that have not been counted before.
+	 * </p>
+	 *
+	 * Tree models that have been returned by nested steps are already included in the node counts of their profiles.
+	 */
+	private int countNodes(Model model){
+		Set<TreeModel> countedTreeModels = this.countedTreeModels;
+
+		int[] count = {0};
+
+		Visitor visitor = new AbstractIterativeTreeModelTransformer(){
+
+			@Override
+			public VisitorAction visit(TreeModel treeModel){
+
+				if(!countedTreeModels.add(treeModel)){
+					return VisitorAction.SKIP;
+				}
+
+				return super.visit(treeModel);
+			}
+
+			@Override
+			public void enterNode(Node node){
+				count[0]++;
+			}
+		};
+		visitor.applyTo(model);
+
+		return count[0];
+	}
+
+	static
+	private void format(List<Profile> profiles, String indent, Appendable appendable) throws IOException {
+		appendable.append("[");
+
+		for(int i = 0; i < profiles.size(); i++){
+			Profile profile = profiles.get(i);
+
+			if(i > 0){
+				appendable.append(",");
+			}
+
+			appendable.append("\n").append(indent).append("\t");
+
+			profile.format(indent + "\t", appendable);
+		}
+
+		if(!profiles.isEmpty()){
+			appendable.append("\n").append(indent);
+		}
+
+		appendable.append("]");
+	}
+
+	/**
+	 * <p>
+	 * JSON does not have literals for NaN and infinite values.
+	 * They are formatted as <code>null</code>.
+	 * </p>
+	 */
+	static
+	private void formatNumber(Number value, Appendable appendable) throws IOException {
+
+		if((value instanceof Double) || (value instanceof Float)){
+			double doubleValue = value.doubleValue();
+
+			if(Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)){
+				appendable.append("null");
+
+				return;
+			}
+		}
+
+		appendable.append(String.valueOf(value));
+	}
+
+	static
+	private void formatString(String value, Appendable appendable) throws IOException {
+
+		if(value == null){
+			appendable.append("null");
+
+			return;
+		}
+
+		appendable.append('\"');
+
+		for(int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+
+			switch(c){
+				case '\"':
+					appendable.append("\\\"");
+					break;
+				case '\\':
+					appendable.append("\\\\");
+					break;
+				case '\n':
+					appendable.append("\\n");
+					break;
+				case '\r':
+					appendable.append("\\r");
+					break;
+				case '\t':
+					appendable.append("\\t");
+					break;
+				default:
+					if(c < 0x20){
+						appendable.append(String.format("\\u%04x", (int)c));
+					} else
+
+					{
+						appendable.append(c);
+					}
+					break;
+			}
+		}
+
+		appendable.append('\"');
+	}
+
+	/**
+	 * <p>
+	 * The cost of encoding a single step.
+	 * </p>
+	 */
+	static
+	public class Profile {
+
+		private String className = null;
+
+		private String type = null;
+
+		private String pmmlName = null;
+
+		private long wallTime = 0L;
+
+		private long allocatedBytes = 0L;
+
+		private int derivedFields = 0;
+
+		private int exports = 0;
+
+		private int renames = 0;
+
+		private int nodes = 0;
+
+		private List<Profile> profiles = new ArrayList<>();
+
+
+		private Profile(Step step){
+			this.className = step.getClassName();
+
+			if(step instanceof Estimator){
+				Estimator estimator = (Estimator)step;
+
+				this.type = "estimator";
+				this.pmmlName = estimator.getPMMLName();
+			} else
+
+			if(step instanceof Transformer){
+				Transformer transformer = (Transformer)step;
+
+				this.type = "transformer";
+				this.pmmlName = transformer.getPMMLName();
+			} else
+
+			{
+				this.type = "step";
+			}
+		}
+
+		public String getClassName(){
+			return this.className;
+		}
+
+		public String getType(){
+			return this.type;
+		}
+
+		public String getPMMLName(){
+			return this.pmmlName;
+		}
+
+		/**
+		 * @return Wall time in nanoseconds.
+		 */
+		public long getWallTime(){
+			return this.wallTime;
+		}
+
+		/**
+		 * @return Allocated bytes, or <code>-1</code> if thread allocation accounting is not available.
+		 */
+		public long getAllocatedBytes(){
+			return this.allocatedBytes;
+		}
+
+		/**
+		 * @return The net number of derived fields that were added to the encoder.
+		 */
+		public int getDerivedFields(){
+			return this.derivedFields;
+		}
+
+		/**
+		 * @return The number of model outputs that were exported as features.
+		 */
+		public int getExports(){
+			return this.exports;
+		}
+
+		/**
+		 * @return The number of features that were renamed.
+		 */
+		public int getRenames(){
+			return this.renames;
+		}
+
+		/**
+		 * @return The number of tree nodes in the encoded model.
+		 */
+		public int getNodes(){
+			return this.nodes;
+		}
+
+		public List<Profile> getProfiles(){
+			return this.profiles;
+		}
+
+		private void format(String indent, Appendable appendable) throws IOException {
+			String fieldIndent = indent + "\t";
+
+			appendable.append("{");
+
+			appendable.append("\n").append(fieldIndent).append("\"class\": ");
+			formatString(this.className, appendable);
+
+			appendable.append(",\n").append(fieldIndent).append("\"type\": ");
+			formatString(this.type, appendable);
+
+			appendable.append(",\n").append(fieldIndent).append("\"pmml_name\": ");
+			formatString(this.pmmlName, appendable);
+
+			appendable.append(",\n").append(fieldIndent).append("\"wall_time_ns\": ").append(String.valueOf(this.wallTime));
+			appendable.append(",\n").append(fieldIndent).append("\"allocated_bytes\": ").append(String.valueOf(this.allocatedBytes));
+			appendable.append(",\n").append(fieldIndent).append("\"derived_fields\": ").append(String.valueOf(this.derivedFields));
+			appendable.append(",\n").append(fieldIndent).append("\"exports\": ").append(String.valueOf(this.exports));
+			appendable.append(",\n").append(fieldIndent).append("\"renames\": ").append(String.valueOf(this.renames));
+			appendable.append(",\n").append(fieldIndent).append("\"nodes\": ").append(String.valueOf(this.nodes));
+
+			appendable.append(",\n").append(fieldIndent).append("\"steps\": ");
+			EncodingProfiler.format(this.profiles, fieldIndent, appendable);
+
+			appendable.append("\n").append(indent).append("}");
+		}
+	}
+
+	private static final ThreadLocal<EncodingProfiler> current = new ThreadLocal<>();
+}
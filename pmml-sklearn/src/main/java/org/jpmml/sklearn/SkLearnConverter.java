@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import javax.xml.transform.stream.StreamResult;
+
+import jakarta.xml.bind.JAXBException;
+import org.dmg.pmml.PMML;
+import org.jpmml.model.JAXBUtil;
+import org.jpmml.python.PickleUtil;
+import org.jpmml.python.Storage;
+import org.jpmml.python.StorageUtil;
+import sklearn2pmml.HasPMMLOptions;
+
+/**
+ * <p>
+ * Converts pickle files to PMML.
+ * </p>
+ *
+ * A converter is stateless and thread-safe.
+ * Any number of conversions may run concurrently, using the same or different converter instances.
+ * Every conversion unpickles its own object graph, and encodes it using its own {@link SkLearnEncoder encoder}.
+ *
+ * @see SkLearnUtil#initOnce()
+ */
+public class SkLearnConverter {
+
+	public SkLearnConverter(){
+		SkLearnUtil.initOnce();
+	}
+
+	public Encodable unpickle(File input) throws IOException {
+
+		try(Storage storage = StorageUtil.createStorage(input)){
+			return unpickle(storage);
+		}
+	}
+
+	public Encodable unpickle(Storage storage) throws IOException {
+		Object object = PickleUtil.unpickle(storage);
+
+		return EncodableUtil.toEncodable(object);
+	}
+
+	public PMML encodePMML(Encodable encodable, Map<String, ?> options){
+
+		if(!options.isEmpty()){
+			HasPMMLOptions<?> hasPmmlOptions = (HasPMMLOptions<?>)encodable;
+
+			hasPmmlOptions.setPMMLOptions(options);
+		}
+
+		return encodable.encodePMML();
+	}
+
+	public PMML convert(File input, Map<String, ?> options) throws IOException {
+		Encodable encodable = unpickle(input);
+
+		return encodePMML(encodable, options);
+	}
+
+	public void convert(File input, Map<String, ?> options, OutputStream os) throws IOException, JAXBException {
+		PMML pmml = convert(input, options);
+
+		JAXBUtil.marshalPMML(pmml, new StreamResult(os));
+	}
+}
@@ -20,14 +20,18 @@ package org.jpmml.sklearn;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import numpy.DType;
 import org.dmg.pmml.DataField;
 import org.dmg.pmml.DataType;
@@ -38,6 +42,7 @@ import org.dmg.pmml.Model;
 import org.dmg.pmml.OpType;
 import org.dmg.pmml.Output;
 import org.dmg.pmml.OutputField;
+import org.dmg.pmml.PMML;
 import org.dmg.pmml.Predicate;
 import org.dmg.pmml.ResultFeature;
 import org.dmg.pmml.mining.MiningModel;
@@ -80,10 +85,22 @@ public class SkLearnEncoder extends PythonEncoder {
 
 	private Model model = null;
 
+	private Map<Integer, ForkJoinPool> forkJoinPools = new LinkedHashMap<>();
+
 
 	public SkLearnEncoder(){
 	}
 
+	@Override
+	public PMML encodePMML(Model model){
+
+		try {
+			return super.encodePMML(model);
+		} finally {
+			shutdownForkJoinPools();
+		}
+	}
+
 	@Override
 	public void addTransformer(Model transformer){
 
@@ -94,6 +111,64 @@ public class SkLearnEncoder extends PythonEncoder {
 		super.addTransformer(transformer);
 	}
 
+	/**
+	 * <p>
+	 * Collects feature importances in insertion order.
+	 * </p>
+	 *
+	 * The default implementation collects them into hash multimaps,
+	 * where the iteration order depends on the (identity-based) hash codes of features.
+	 */
+	@Override
+	public void addFeatureImportance(Model model, Feature feature, Number featureImportance){
+		Map<Model, ListMultimap<Feature, Number>> featureImportances = getFeatureImportances();
+
+		ListMultimap<Feature, Number> modelFeatureImportances = featureImportances.get(model);
+		if(modelFeatureImportances == null){
+			modelFeatureImportances = LinkedListMultimap.create();
+
+			featureImportances.put(model, modelFeatureImportances);
+		}
+
+		modelFeatureImportances.put(feature, featureImportance);
+	}
+
+	/**
+	 * <p>
+	 * Gets a fork-join pool for encoding the members of model ensembles concurrently.
+	 * </p>
+	 *
+	 * The common pool is used if it has the requested parallelism.
+	 * Otherwise, a pool is created when it is requested for the first time,
+	 * and is shared by all model ensembles of this conversion.
+	 * It is shut down when the PMML document has been encoded.
+	 */
+	public ForkJoinPool getForkJoinPool(int parallelism){
+
+		if(parallelism == ForkJoinPool.getCommonPoolParallelism()){
+			return ForkJoinPool.commonPool();
+		}
+
+		ForkJoinPool forkJoinPool = this.forkJoinPools.get(parallelism);
+		if(forkJoinPool == null){
+			forkJoinPool = new ForkJoinPool(parallelism);
+
+			this.forkJoinPools.put(parallelism, forkJoinPool);
+		}
+
+		return forkJoinPool;
+	}
+
+	private void shutdownForkJoinPools(){
+		Collection<ForkJoinPool> forkJoinPools = this.forkJoinPools.values();
+
+		for(ForkJoinPool forkJoinPool : forkJoinPools){
+			forkJoinPool.shutdown();
+		}
+
+		forkJoinPools.clear();
+	}
+
 	@Override
 	public Model encodeModel(Model model){
 		Predicate predicate = getPredicate();
@@ -182,6 +257,8 @@ public class SkLearnEncoder extends PythonEncoder {
 	}
 
 	public List<Feature> export(Model model, List<String> names){
+		EncodingProfiler.countExports(names.size());
+
 		Output output = EstimatorUtil.getFinalOutput(model);
 		if(output == null){
 			throw new IllegalArgumentException();
@@ -258,6 +335,8 @@ public class SkLearnEncoder extends PythonEncoder {
 
 		try {
 			super.addDerivedField(derivedField);
+
+			EncodingProfiler.countDerivedFields(1);
 		} catch(RuntimeException re){
 			String name = derivedField.requireName();
 
@@ -269,6 +348,15 @@ public class SkLearnEncoder extends PythonEncoder {
 		}
 	}
 
+	@Override
+	public DerivedField removeDerivedField(String name){
+		DerivedField derivedField = super.removeDerivedField(name);
+
+		EncodingProfiler.countDerivedFields(-1);
+
+		return derivedField;
+	}
+
 	public void renameFeature(Feature feature, String renamedName){
 		String name = feature.getName();
 
@@ -278,6 +366,8 @@ public class SkLearnEncoder extends PythonEncoder {
 			throw new IllegalArgumentException("User input field " + name + " cannot be renamed");
 		}
 
+		EncodingProfiler.countRenames(1);
+
 		DerivedField derivedField = removeDerivedField(name);
 
 		try {
@@ -18,12 +18,30 @@
  */
 package org.jpmml.sklearn;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class SkLearnUtil {
 
 	private SkLearnUtil(){
 	}
 
+	/**
+	 * <p>
+	 * Initializes the unpickler.
+	 * </p>
+	 *
+	 * This method is thread-safe, and should be called before the first conversion.
+	 * Afterwards, conversions may run concurrently, because they do not modify shared state.
+	 */
 	static
+	synchronized
 	public void initOnce(){
 
 		if(!SkLearnUtil.initialized){
@@ -37,7 +55,60 @@ public class SkLearnUtil {
 	private void init(){
 		@SuppressWarnings("unused")
 		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		ClassLoader clazzLoader = SkLearnUtil.class.getClassLoader();
+
+		// Static initializers of mapped Java classes may register more Python classes with the unpickler.
+		// Run them now, rather than during some (possibly concurrent) unpickling.
+		initClasses(clazzLoader, "sklearn2pmml.properties");
+	}
+
+	static
+	private void initClasses(ClassLoader clazzLoader, String name){
+		Enumeration<URL> urls;
+
+		try {
+			urls = clazzLoader.getResources("META-INF/" + name);
+		} catch(IOException ioe){
+			logger.warn("Failed to find resources", ioe);
+
+			return;
+		}
+
+		while(urls.hasMoreElements()){
+			URL url = urls.nextElement();
+
+			Properties properties = new Properties();
+
+			try(InputStream is = url.openStream()){
+				properties.load(is);
+			} catch(IOException ioe){
+				logger.warn("Failed to load resource", ioe);
+
+				continue;
+			}
+
+			for(String key : properties.stringPropertyNames()){
+				String value = properties.getProperty(key);
+
+				if(("null").equals(value)){
+					continue;
+				} // End if
+
+				if(value == null || ("").equals(value)){
+					value = key;
+				}
+
+				try {
+					Class.forName(value, true, clazzLoader);
+				} catch(ClassNotFoundException | LinkageError e){
+					logger.debug("Failed to initialize Java class {}", value);
+				}
+			}
+		}
 	}
 
 	private static boolean initialized = false;
+
+	private static final Logger logger = LoggerFactory.getLogger(SkLearnUtil.class);
 }
\ No newline at end of file
@@ -36,6 +36,9 @@ import org.jpmml.sklearn.SkLearnEncoder;
 abstract
 public class Composite extends Step implements Castable, HasFeatureNamesIn, HasHead {
 
+	private boolean releaseContent = false;
+
+
 	public Composite(String module, String name){
 		super(module, name);
 	}
@@ -109,6 +112,10 @@ public class Composite extends Step implements Castable, HasFeatureNamesIn, HasH
 
 			for(Transformer transformer : transformers){
 				features = transformer.encode(features, encoder);
+
+				if(isReleaseContent()){
+					StepUtil.clearContent(transformer);
+				}
 			}
 		}
 
@@ -278,4 +285,26 @@ public class Composite extends Step implements Castable, HasFeatureNamesIn, HasH
 	protected List<String> initActiveFields(Step step){
 		return EncodableUtil.getOrGenerateFeatureNames(step);
 	}
+
+	/**
+	 * <p>
+	 * Should the array content of steps be released as soon as they have been encoded?
+	 * </p>
+	 *
+	 * The decoded content of a transformer step is cleared right after the step has been encoded.
+	 * All content, including raw pickle data, is released after the model has been encoded.
+	 * Reduces the peak memory usage of converting wide pipelines.
+	 *
+	 * @see StepUtil#clearContent(Object)
+	 * @see StepUtil#releaseContent(Object)
+	 */
+	public boolean isReleaseContent(){
+		return this.releaseContent;
+	}
+
+	public Composite setReleaseContent(boolean releaseContent){
+		this.releaseContent = releaseContent;
+
+		return this;
+	}
 }
\ No newline at end of file
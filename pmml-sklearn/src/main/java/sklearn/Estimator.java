@@ -40,6 +40,7 @@ import org.jpmml.converter.ModelEncoder;
 import org.jpmml.converter.ModelUtil;
 import org.jpmml.converter.Schema;
 import org.jpmml.python.ClassDictUtil;
+import org.jpmml.sklearn.EncodingProfiler;
 import org.jpmml.sklearn.SkLearnEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -114,6 +115,10 @@ public class Estimator extends Step implements HasNumberOfOutputs, HasPMMLOption
 	}
 
 	public Model encode(Schema schema){
+		return EncodingProfiler.profile(this, () -> encodeInternal(schema));
+	}
+
+	private Model encodeInternal(Schema schema){
 		checkVersion();
 
 		checkLabel(schema.getLabel());
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.Maps;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.FeatureUtil;
+
+/**
+ * <p>
+ * A list of features, which can be searched by name in constant time.
+ * </p>
+ *
+ * The name index is built on the first search.
+ * If there are several features with the same name, then the first one takes precedence (like in {@link FeatureUtil#findFeature(List, String)}).
+ */
+public class FeatureIndex {
+
+	private List<Feature> features = null;
+
+	private Map<String, Integer> indices = null;
+
+
+	public FeatureIndex(List<Feature> features){
+		setFeatures(features);
+	}
+
+	public boolean isEmpty(){
+		List<Feature> features = getFeatures();
+
+		return features.isEmpty();
+	}
+
+	public Feature getFeature(int index){
+		List<Feature> features = getFeatures();
+
+		return features.get(index);
+	}
+
+	/**
+	 * @return The feature, or <code>null</code>.
+	 */
+	public Feature findFeature(String name){
+		List<Feature> features = getFeatures();
+		Map<String, Integer> indices = ensureIndices();
+
+		Integer index = indices.get(name);
+		if(index != null){
+			return features.get(index);
+		}
+
+		return null;
+	}
+
+	public List<Feature> getFeatures(){
+		return this.features;
+	}
+
+	private void setFeatures(List<Feature> features){
+		this.features = Objects.requireNonNull(features);
+	}
+
+	private Map<String, Integer> ensureIndices(){
+
+		if(this.indices == null){
+			List<Feature> features = getFeatures();
+
+			Map<String, Integer> indices = Maps.newHashMapWithExpectedSize(features.size());
+
+			for(int i = 0; i < features.size(); i++){
+				Feature feature = features.get(i);
+
+				indices.putIfAbsent(feature.getName(), i);
+			}
+
+			this.indices = indices;
+		}
+
+		return this.indices;
+	}
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.OpType;
 import org.jpmml.converter.Feature;
+import org.jpmml.sklearn.EncodingProfiler;
 import org.jpmml.sklearn.SkLearnEncoder;
 
 abstract
@@ -54,9 +55,11 @@ public class Initializer extends Transformer {
 	public List<Feature> encode(List<Feature> features, SkLearnEncoder encoder){
 
 		if(features.isEmpty()){
-			checkVersion();
+			return EncodingProfiler.profile(this, () -> {
+				checkVersion();
 
-			return initializeFeatures(encoder);
+				return initializeFeatures(encoder);
+			});
 		}
 
 		return super.encode(features, encoder);
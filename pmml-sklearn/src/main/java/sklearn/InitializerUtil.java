@@ -45,6 +45,15 @@ public class InitializerUtil {
 
 	static
 	public List<Feature> selectFeatures(List<?> columns, List<Feature> features, SkLearnEncoder encoder){
+		return selectFeatures(columns, new FeatureIndex(features), encoder);
+	}
+
+	/**
+	 * @param featureIndex The features to select from.
+	 * Should be shared between all selections from the same list of features.
+	 */
+	static
+	public List<Feature> selectFeatures(List<?> columns, FeatureIndex featureIndex, SkLearnEncoder encoder){
 		Function<Object, Feature> castFunction = new Function<Object, Feature>(){
 
 			@Override
@@ -53,14 +62,14 @@ public class InitializerUtil {
 				if(object instanceof String){
 					String column = (String)object;
 
-					if(!features.isEmpty()){
-						Feature feature = FeatureUtil.findFeature(features, column);
+					if(!featureIndex.isEmpty()){
+						Feature feature = featureIndex.findFeature(column);
 
 						if(feature != null){
 							return feature;
 						}
 
-						throw new IllegalArgumentException("Column \'" + column + "\' not found in " + FeatureUtil.formatNames(features, '\''));
+						throw new IllegalArgumentException("Column \'" + column + "\' not found in " + FeatureUtil.formatNames(featureIndex.getFeatures(), '\''));
 					}
 
 					return createWildcardFeature(column, encoder);
@@ -69,8 +78,8 @@ public class InitializerUtil {
 				if(object instanceof Integer){
 					Integer index = (Integer)object;
 
-					if(!features.isEmpty()){
-						Feature feature = features.get(index);
+					if(!featureIndex.isEmpty()){
+						Feature feature = featureIndex.getFeature(index);
 
 						return feature;
 					}
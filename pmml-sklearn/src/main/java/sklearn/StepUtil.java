@@ -18,10 +18,17 @@
  */
 package sklearn;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import numpy.core.NDArray;
 import org.jpmml.converter.Feature;
 import org.jpmml.python.ClassDictUtil;
+import org.jpmml.python.HasContent;
 
 public class StepUtil {
 
@@ -58,4 +65,91 @@ public class StepUtil {
 
 		return HasNumberOfFeatures.UNKNOWN;
 	}
+
+	/**
+	 * <p>
+	 * Clears the decoded content of all array-like objects that are reachable from the specified object.
+	 * </p>
+	 *
+	 * Unlike {@link ClassDictUtil#clearContent(net.razorvine.pickle.objects.ClassDict)},
+	 * this method also traverses collections, arrays and composite step wrappers.
+	 * The raw pickle data is retained, and the content is re-loaded transparently if it is accessed again later.
+	 *
+	 * @see #releaseContent(Object)
+	 */
+	static
+	public void clearContent(Object object){
+		clearContent(object, false, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	/**
+	 * <p>
+	 * Clears the decoded content, and releases the raw pickle data of all array-like objects that are reachable from the specified object.
+	 * </p>
+	 *
+	 * The content cannot be loaded again.
+	 * This method should only be called when the object is not going to be encoded again.
+	 *
+	 * @see #clearContent(Object)
+	 */
+	static
+	public void releaseContent(Object object){
+		clearContent(object, true, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	static
+	private void clearContent(Object object, boolean release, Set<Object> visited){
+
+		if(object instanceof CompositeTransformer){
+			CompositeTransformer compositeTransformer = (CompositeTransformer)object;
+
+			object = compositeTransformer.getComposite();
+		} // End if
+
+		if(!(object instanceof HasContent || object instanceof Map || object instanceof Collection || object instanceof Object[])){
+			return;
+		} // End if
+
+		if(!visited.add(object)){
+			return;
+		} // End if
+
+		if(object instanceof HasContent){
+			HasContent<?> hasContent = (HasContent<?>)object;
+
+			hasContent.clearContent();
+		} // End if
+
+		if(release && (object instanceof NDArray)){
+			NDArray array = (NDArray)object;
+
+			array.remove("data");
+
+			return;
+		} // End if
+
+		if(object instanceof Map){
+			Map<?, ?> map = (Map<?, ?>)object;
+
+			for(Object value : map.values()){
+				clearContent(value, release, visited);
+			}
+		} else
+
+		if(object instanceof Collection){
+			Collection<?> collection = (Collection<?>)object;
+
+			for(Object element : collection){
+				clearContent(element, release, visited);
+			}
+		} else
+
+		if(object instanceof Object[]){
+			Object[] array = (Object[])object;
+
+			for(Object element : array){
+				clearContent(element, release, visited);
+			}
+		}
+	}
 }
\ No newline at end of file
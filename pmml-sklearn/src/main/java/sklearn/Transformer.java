@@ -33,6 +33,7 @@ import org.jpmml.python.CastFunction;
 import org.jpmml.python.ClassDictUtil;
 import org.jpmml.python.PythonTypeUtil;
 import org.jpmml.python.TypeInfo;
+import org.jpmml.sklearn.EncodingProfiler;
 import org.jpmml.sklearn.SkLearnEncoder;
 import sklearn2pmml.HasPMMLName;
 
@@ -67,13 +68,15 @@ public class Transformer extends Step implements HasPMMLName<Transformer> {
 	}
 
 	public List<Feature> encode(List<Feature> features, SkLearnEncoder encoder){
-		checkVersion();
+		return EncodingProfiler.profile(this, () -> {
+			checkVersion();
 
-		checkFeatures(features);
+			checkFeatures(features);
 
-		features = updateFeatures(features, encoder);
+			List<Feature> updatedFeatures = updateFeatures(features, encoder);
 
-		return encodeFeatures(features, encoder);
+			return encodeFeatures(updatedFeatures, encoder);
+		});
 	}
 
 	public void checkFeatures(List<? extends Feature> features){
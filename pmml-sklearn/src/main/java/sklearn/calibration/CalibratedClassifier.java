@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import com.google.common.collect.Iterables;
 import org.dmg.pmml.DataType;
@@ -64,28 +65,33 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 
 	@Override
 	public Model encodeModel(Schema schema){
-		List<? extends Calibrator> calibrators = getCalibrators();
-		List<?> classes = getClasses();
-		Classifier estimator = getEstimator();
-		String method = getMethod();
+		List<Model> models = new ArrayList<>();
 
-		switch(method){
-			case "isotonic":
-			case "sigmoid":
-				break;
-			default:
-				throw new IllegalArgumentException(method);
-		}
+		List<Feature> decisionFunctionFeatures = encodeDecisionFunction(models, schema);
+
+		Model calibratorModel = encodeCalibratorModel(models, decisionFunctionFeatures, null, schema);
+
+		models.add(calibratorModel);
+
+		return MiningModelUtil.createModelChain(models, Segmentation.MissingPredictionTreatment.RETURN_MISSING);
+	}
+
+	/**
+	 * <p>
+	 * Encodes the estimator, and exposes its decision function as features.
+	 * </p>
+	 *
+	 * @param models A list for collecting the models that compute the decision function features.
+	 */
+	List<Feature> encodeDecisionFunction(List<Model> models, Schema schema){
+		Classifier estimator = getEstimator();
 
 		SkLearnEncoder encoder = (SkLearnEncoder)schema.getEncoder();
 
 		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
-		List<? extends Feature> features = schema.getFeatures();
 
 		Model model = estimator.encode(schema);
 
-		List<Model> models = new ArrayList<>();
-
 		List<Feature> decisionFunctionFeatures = new ArrayList<>();
 
 		if((estimator instanceof GradientBoostingClassifier) || (estimator instanceof LinearClassifier)){
@@ -224,6 +230,34 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 			}
 		}
 
+		return decisionFunctionFeatures;
+	}
+
+	/**
+	 * <p>
+	 * Encodes the calibrators.
+	 * </p>
+	 *
+	 * @param models The models that compute the decision function features.
+	 * @param calibratorId The identifier that makes the names of calibrated features unique,
+	 * or <code>null</code> if the decision function features are not shared with other calibrated classifiers.
+	 */
+	Model encodeCalibratorModel(List<Model> models, List<Feature> decisionFunctionFeatures, Object calibratorId, Schema schema){
+		List<? extends Calibrator> calibrators = getCalibrators();
+		String method = getMethod();
+
+		switch(method){
+			case "isotonic":
+			case "sigmoid":
+				break;
+			default:
+				throw new IllegalArgumentException(method);
+		}
+
+		SkLearnEncoder encoder = (SkLearnEncoder)schema.getEncoder();
+
+		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
+
 		SchemaUtil.checkSize(calibrators.size(), decisionFunctionFeatures);
 
 		RegressionModel calibratorModel;
@@ -235,7 +269,7 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 			Model featureModel = models.get(0);
 			Feature feature = decisionFunctionFeatures.get(0);
 
-			Feature calibratedFeature = calibrate(calibrator, featureModel, feature, encoder);
+			Feature calibratedFeature = calibrate(calibrator, featureModel, feature, calibratorId, encoder);
 
 			calibratorModel = RegressionModelUtil.createBinaryLogisticClassification(Collections.singletonList(calibratedFeature), Collections.singletonList(1d), null, RegressionModel.NormalizationMethod.NONE, false, schema);
 		} else
@@ -250,7 +284,7 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 				Model featureModel = models.size() == 1 ? models.get(0) : models.get(i);
 				Feature feature = decisionFunctionFeatures.get(i);
 
-				Feature calibratedFeature = calibrate(calibrator, featureModel, feature, encoder);
+				Feature calibratedFeature = calibrate(calibrator, featureModel, feature, calibratorId, encoder);
 
 				RegressionTable regressionTable = RegressionModelUtil.createRegressionTable(Collections.singletonList(calibratedFeature), Collections.singletonList(1d), null)
 					.setTargetCategory(categoricalLabel.getValue(i));
@@ -268,9 +302,7 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 
 		encodePredictProbaOutput(calibratorModel, DataType.DOUBLE, categoricalLabel);
 
-		models.add(calibratorModel);
-
-		return MiningModelUtil.createModelChain(models, Segmentation.MissingPredictionTreatment.RETURN_MISSING);
+		return calibratorModel;
 	}
 
 	@Override
@@ -315,14 +347,25 @@ public class CalibratedClassifier extends SkLearnClassifier implements HasEstima
 	}
 
 	static
-	private Feature calibrate(Calibrator calibrator, Model model, Feature feature, SkLearnEncoder encoder){
-		encoder.export(model, feature.getName());
+	private Feature calibrate(Calibrator calibrator, Model model, Feature feature, Object calibratorId, SkLearnEncoder encoder){
+		Map<String, DerivedField> derivedFields = encoder.getDerivedFields();
+
+		// A shared decision function feature is exported by the first calibrator
+		if(!derivedFields.containsKey(feature.getName())){
+			encoder.export(model, feature.getName());
+		}
 
 		Feature calibratedFeature = Iterables.getOnlyElement(calibrator.encodeFeatures(Collections.singletonList(feature), encoder));
 
 		DerivedField derivedField = encoder.removeDerivedField(calibratedFeature.getName());
 
-		OutputField outputField = new OutputField(derivedField.requireName(), derivedField.requireOpType(), derivedField.requireDataType())
+		String name = derivedField.requireName();
+
+		if(calibratorId != null){
+			name = FieldNameUtil.create(name, calibratorId);
+		}
+
+		OutputField outputField = new OutputField(name, derivedField.requireOpType(), derivedField.requireDataType())
 			.setResultFeature(ResultFeature.TRANSFORMED_VALUE)
 			.setExpression(derivedField.requireExpression())
 			.setFinalResult(false);
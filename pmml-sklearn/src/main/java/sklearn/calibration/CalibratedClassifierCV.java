@@ -27,9 +27,11 @@ import org.dmg.pmml.Model;
 import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.mining.Segmentation;
 import org.jpmml.converter.CategoricalLabel;
+import org.jpmml.converter.Feature;
 import org.jpmml.converter.ModelUtil;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.mining.MiningModelUtil;
+import sklearn.Classifier;
 import sklearn.SkLearnClassifier;
 
 public class CalibratedClassifierCV extends SkLearnClassifier {
@@ -51,6 +53,11 @@ public class CalibratedClassifierCV extends SkLearnClassifier {
 		} else
 
 		if(calibratedClassifiers.size() >= 2){
+
+			if(isShared(calibratedClassifiers)){
+				return encodeSharedModel(calibratedClassifiers, schema);
+			}
+
 			Schema segmentSchema = schema.toAnonymousSchema();
 
 			List<Model> models = new ArrayList<>();
@@ -76,7 +83,90 @@ public class CalibratedClassifierCV extends SkLearnClassifier {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Encodes calibrated classifiers that share the same estimator object (eg. a <code>FrozenEstimator</code>).
+	 * </p>
+	 *
+	 * The estimator is encoded only once, as the head of a model chain.
+	 * Calibrators of all folds transform the decision function fields of the shared estimator.
+	 */
+	private Model encodeSharedModel(List<CalibratedClassifier> calibratedClassifiers, Schema schema){
+		Object pmmlSegmentId = getPMMLSegmentId();
+
+		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
+
+		Schema segmentSchema = schema.toAnonymousSchema();
+
+		List<Model> models = new ArrayList<>();
+
+		List<Feature> decisionFunctionFeatures;
+
+		CalibratedClassifier sharedCalibratedClassifier = calibratedClassifiers.get(0);
+
+		Object prevSegmentId = sharedCalibratedClassifier.getPMMLSegmentId();
+
+		try {
+			sharedCalibratedClassifier.setPMMLSegmentId(pmmlSegmentId);
+
+			decisionFunctionFeatures = sharedCalibratedClassifier.encodeDecisionFunction(models, segmentSchema);
+		} finally {
+			sharedCalibratedClassifier.setPMMLSegmentId(prevSegmentId);
+		}
+
+		List<Model> calibratorModels = new ArrayList<>();
+
+		for(int i = 0; i < calibratedClassifiers.size(); i++){
+			CalibratedClassifier calibratedClassifier = calibratedClassifiers.get(i);
+
+			Object segmentId = (i + 1);
+
+			prevSegmentId = calibratedClassifier.getPMMLSegmentId();
+
+			try {
+				calibratedClassifier.setPMMLSegmentId(segmentId);
+
+				Model calibratorModel = calibratedClassifier.encodeCalibratorModel(models, decisionFunctionFeatures, segmentId, segmentSchema);
+
+				calibratorModels.add(calibratorModel);
+			} finally {
+				calibratedClassifier.setPMMLSegmentId(prevSegmentId);
+			}
+		}
+
+		MiningModel miningModel = new MiningModel(MiningFunction.CLASSIFICATION, ModelUtil.createMiningSchema(categoricalLabel))
+			.setSegmentation(MiningModelUtil.createSegmentation(Segmentation.MultipleModelMethod.AVERAGE, Segmentation.MissingPredictionTreatment.RETURN_MISSING, calibratorModels));
+
+		encodePredictProbaOutput(miningModel, DataType.DOUBLE, categoricalLabel);
+
+		models.add(miningModel);
+
+		return MiningModelUtil.createModelChain(models, Segmentation.MissingPredictionTreatment.RETURN_MISSING);
+	}
+
 	public List<CalibratedClassifier> getCalibratedClassifiers(){
 		return getList("calibrated_classifiers_", CalibratedClassifier.class);
 	}
+
+	/**
+	 * @return <code>true</code> if all calibrated classifiers reference the same estimator object, <code>false</code> otherwise.
+	 */
+	static
+	private boolean isShared(List<CalibratedClassifier> calibratedClassifiers){
+		Classifier estimator = null;
+
+		for(CalibratedClassifier calibratedClassifier : calibratedClassifiers){
+			Classifier calibratedEstimator = calibratedClassifier.getEstimator();
+
+			if(estimator == null){
+				estimator = calibratedEstimator;
+			} else
+
+			if(estimator != calibratedEstimator){
+				return false;
+			}
+		}
+
+		return true;
+	}
 }
\ No newline at end of file
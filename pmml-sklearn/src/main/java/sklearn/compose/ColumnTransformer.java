@@ -31,6 +31,7 @@ import org.jpmml.python.TupleUtil;
 import org.jpmml.sklearn.Encodable;
 import org.jpmml.sklearn.SkLearnEncoder;
 import sklearn.Drop;
+import sklearn.FeatureIndex;
 import sklearn.HasFeatureNamesIn;
 import sklearn.HasSparseOutput;
 import sklearn.Initializer;
@@ -68,12 +69,14 @@ public class ColumnTransformer extends Initializer implements HasFeatureNamesIn,
 	public List<Feature> encodeFeatures(List<Feature> features, SkLearnEncoder encoder){
 		List<Object[]> fittedTransformers = getFittedTransformers();
 
+		FeatureIndex featureIndex = new FeatureIndex(features);
+
 		List<Feature> result = new ArrayList<>();
 
 		for(Object[] fittedTransformer : fittedTransformers){
 			Transformer transformer = getTransformer(fittedTransformer);
 
-			List<Feature> rowFeatures = getFeatures(fittedTransformer, features, encoder);
+			List<Feature> rowFeatures = getFeatures(fittedTransformer, featureIndex, encoder);
 
 			rowFeatures = transformer.encode(rowFeatures, encoder);
 
@@ -127,7 +130,7 @@ public class ColumnTransformer extends Initializer implements HasFeatureNamesIn,
 	}
 
 	static
-	private List<Feature> getFeatures(Object[] fittedTransformer, List<Feature> features, SkLearnEncoder encoder){
+	private List<Feature> getFeatures(Object[] fittedTransformer, FeatureIndex featureIndex, SkLearnEncoder encoder){
 		Object columns = TupleUtil.extractElement(fittedTransformer, 2);
 
 		if((columns instanceof String) || (columns instanceof Integer)){
@@ -140,6 +143,6 @@ public class ColumnTransformer extends Initializer implements HasFeatureNamesIn,
 			columns = hasArray.getArrayContent();
 		}
 
-		return InitializerUtil.selectFeatures((List)columns, features, encoder);
+		return InitializerUtil.selectFeatures((List)columns, featureIndex, encoder);
 	}
 }
\ No newline at end of file
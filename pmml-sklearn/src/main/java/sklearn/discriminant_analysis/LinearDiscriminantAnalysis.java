@@ -26,7 +26,6 @@ import org.dmg.pmml.Model;
 import org.dmg.pmml.OpType;
 import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.regression.RegressionModel;
-import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.Feature;
 import org.jpmml.converter.ModelUtil;
@@ -36,6 +35,7 @@ import org.jpmml.converter.mining.MiningModelUtil;
 import org.jpmml.converter.regression.RegressionModelUtil;
 import sklearn.VersionUtil;
 import sklearn.linear_model.LinearClassifier;
+import sklearn.linear_model.LinearModelUtil;
 
 public class LinearDiscriminantAnalysis extends LinearClassifier {
 
@@ -70,7 +70,7 @@ public class LinearDiscriminantAnalysis extends LinearClassifier {
 		int numberOfClasses = shape[0];
 		int numberOfFeatures = shape[1];
 
-		List<? extends Number> coef = getCoef();
+		List<LinearModelUtil.CoefRow> coefRows = getCoefRows();
 		List<? extends Number> intercept = getIntercept();
 
 		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
@@ -91,7 +91,9 @@ public class LinearDiscriminantAnalysis extends LinearClassifier {
 			List<Model> models = new ArrayList<>();
 
 			for(int i = 0, rows = categoricalLabel.size(); i < rows; i++){
-				Model model = RegressionModelUtil.createRegression(features, CMatrixUtil.getRow(coef, numberOfClasses, numberOfFeatures, i), intercept.get(i), RegressionModel.NormalizationMethod.NONE, segmentSchema)
+				LinearModelUtil.CoefRow coefRow = coefRows.get(i);
+
+				Model model = RegressionModelUtil.createRegression(coefRow.select(features), coefRow.getValues(), intercept.get(i), RegressionModel.NormalizationMethod.NONE, segmentSchema)
 					.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(i)), OpType.CONTINUOUS, DataType.DOUBLE));
 
 				models.add(model);
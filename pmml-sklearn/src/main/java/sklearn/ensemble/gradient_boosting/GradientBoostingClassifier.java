@@ -30,8 +30,10 @@ import org.dmg.pmml.regression.RegressionModel;
 import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.ModelUtil;
+import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.SchemaUtil;
+import org.jpmml.converter.ScoreDistributionManager;
 import org.jpmml.converter.mining.MiningModelUtil;
 import sklearn.Estimator;
 import sklearn.HasEstimatorEnsemble;
@@ -39,6 +41,7 @@ import sklearn.HasMultiDecisionFunctionField;
 import sklearn.HasPriorProbability;
 import sklearn.SkLearnClassifier;
 import sklearn.VersionUtil;
+import sklearn.tree.EnsemblePredicateManager;
 import sklearn.tree.HasTreeOptions;
 import sklearn.tree.TreeRegressor;
 import sklearn2pmml.EstimatorProxy;
@@ -89,12 +92,15 @@ public class GradientBoostingClassifier extends SkLearnClassifier implements Has
 
 		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
 
+		PredicateManager predicateManager = new EnsemblePredicateManager();
+		ScoreDistributionManager scoreDistributionManager = new ScoreDistributionManager();
+
 		MiningModel miningModel;
 
 		if(numberOfClasses == 1){
 			SchemaUtil.checkSize(2, categoricalLabel);
 
-			Model model = GradientBoostingUtil.encodeGradientBoosting(this, initialPredictions.apply(1), learningRate, segmentSchema)
+			Model model = GradientBoostingUtil.encodeGradientBoosting(this, initialPredictions.apply(1), learningRate, predicateManager, scoreDistributionManager, segmentSchema)
 				.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(1)), OpType.CONTINUOUS, DataType.DOUBLE, loss.createTransformation()));
 
 			miningModel = MiningModelUtil.createBinaryLogisticClassification(model, 1d, 0d, RegressionModel.NormalizationMethod.NONE, false, schema);
@@ -118,7 +124,7 @@ public class GradientBoostingClassifier extends SkLearnClassifier implements Has
 					}
 				};
 
-				Model model = GradientBoostingUtil.encodeGradientBoosting(estimatorProxy, initialPredictions.apply(i), learningRate, segmentSchema)
+				Model model = GradientBoostingUtil.encodeGradientBoosting(estimatorProxy, initialPredictions.apply(i), learningRate, predicateManager, scoreDistributionManager, segmentSchema)
 					.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(i)), OpType.CONTINUOUS, DataType.DOUBLE, loss.createTransformation()));
 
 				models.add(model);
@@ -26,10 +26,13 @@ import org.dmg.pmml.mining.Segmentation;
 import org.dmg.pmml.tree.TreeModel;
 import org.jpmml.converter.ContinuousLabel;
 import org.jpmml.converter.ModelUtil;
+import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
+import org.jpmml.converter.ScoreDistributionManager;
 import org.jpmml.converter.mining.MiningModelUtil;
 import sklearn.Estimator;
 import sklearn.HasEstimatorEnsemble;
+import sklearn.tree.EnsemblePredicateManager;
 import sklearn.tree.HasTreeOptions;
 import sklearn.tree.TreeRegressor;
 import sklearn.tree.TreeUtil;
@@ -41,9 +44,26 @@ public class GradientBoostingUtil {
 
 	static
 	public <E extends Estimator & HasEstimatorEnsemble<TreeRegressor> & HasTreeOptions> MiningModel encodeGradientBoosting(E estimator, Number initialPrediction, Number learningRate, Schema schema){
+		PredicateManager predicateManager = new EnsemblePredicateManager();
+		ScoreDistributionManager scoreDistributionManager = new ScoreDistributionManager();
+
+		return encodeGradientBoosting(estimator, initialPrediction, learningRate, predicateManager, scoreDistributionManager, schema);
+	}
+
+	/**
+	 * <p>
+	 * Encodes the member trees of a single target column.
+	 * </p>
+	 *
+	 * The predicate manager and the score distribution manager may be shared between target columns.
+	 */
+	static
+	public <E extends Estimator & HasEstimatorEnsemble<TreeRegressor> & HasTreeOptions> MiningModel encodeGradientBoosting(E estimator, Number initialPrediction, Number learningRate, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
 		ContinuousLabel continuousLabel = (ContinuousLabel)schema.getLabel();
 
-		List<TreeModel> treeModels = TreeUtil.encodeTreeModelEnsemble(estimator, MiningFunction.REGRESSION, schema);
+		Boolean numeric = (Boolean)estimator.getOption(HasTreeOptions.OPTION_NUMERIC, Boolean.TRUE);
+
+		List<TreeModel> treeModels = TreeUtil.encodeTreeModelEnsemble(estimator, MiningFunction.REGRESSION, numeric, predicateManager, scoreDistributionManager, schema);
 
 		MiningModel miningModel = new MiningModel(MiningFunction.REGRESSION, ModelUtil.createMiningSchema(continuousLabel))
 			.setSegmentation(MiningModelUtil.createSegmentation(Segmentation.MultipleModelMethod.SUM, Segmentation.MissingPredictionTreatment.RETURN_MISSING, treeModels))
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.ensemble.hist_gradient_boosting;
+
+import java.util.List;
+
+import org.jpmml.python.HasArray;
+
+/**
+ * <p>
+ * The threshold values of a bin mapper, boxed once per estimator.
+ * </p>
+ *
+ * A numeric split of a tree predictor is a bin threshold of the split feature.
+ * All member trees of all target columns then share the same threshold value objects.
+ */
+public class BinThresholds {
+
+	private Double[][] values = null;
+
+
+	public BinThresholds(BinMapper binMapper){
+		this.values = parseValues(binMapper);
+	}
+
+	/**
+	 * @param feature The index of the split feature.
+	 * @param bin The index of the bin threshold.
+	 * @param threshold The threshold value.
+	 *
+	 * @return The canonical threshold value, or a newly boxed threshold value if the threshold value is not a bin threshold of the split feature.
+	 */
+	public Double getValue(int feature, int bin, double threshold){
+		Double[][] values = this.values;
+
+		if(feature >= 0 && feature < values.length){
+			Double[] featureValues = values[feature];
+
+			if(featureValues != null && bin >= 0 && bin < featureValues.length){
+				Double value = featureValues[bin];
+
+				if(value != null && Double.doubleToLongBits(value.doubleValue()) == Double.doubleToLongBits(threshold)){
+					return value;
+				}
+			}
+		}
+
+		return threshold;
+	}
+
+	static
+	private Double[][] parseValues(BinMapper binMapper){
+
+		if(binMapper == null || !binMapper.containsKey("bin_thresholds_")){
+			return new Double[0][];
+		}
+
+		List<?> binThresholds = binMapper.getList("bin_thresholds_", Object.class);
+
+		Double[][] result = new Double[binThresholds.size()][];
+
+		for(int i = 0; i < binThresholds.size(); i++){
+			Object featureBinThresholds = binThresholds.get(i);
+
+			if(!(featureBinThresholds instanceof HasArray)){
+				continue;
+			}
+
+			HasArray hasArray = (HasArray)featureBinThresholds;
+
+			List<?> content = hasArray.getArrayContent();
+
+			Double[] values = new Double[content.size()];
+
+			for(int j = 0; j < content.size(); j++){
+				Object value = content.get(j);
+
+				if(value instanceof Number){
+					values[j] = ((Number)value).doubleValue();
+				}
+			}
+
+			result[i] = values;
+		}
+
+		return result;
+	}
+}
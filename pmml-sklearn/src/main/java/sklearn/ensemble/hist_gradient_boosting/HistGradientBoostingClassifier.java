@@ -28,6 +28,7 @@ import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.regression.RegressionModel;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.ModelUtil;
+import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.SchemaUtil;
 import org.jpmml.converter.mining.MiningModelUtil;
@@ -37,6 +38,7 @@ import sklearn.HasMultiDecisionFunctionField;
 import sklearn.SkLearnClassifier;
 import sklearn.loss.HalfBinomialLoss;
 import sklearn.loss.HalfMultinomialLoss;
+import sklearn.tree.EnsemblePredicateManager;
 
 public class HistGradientBoostingClassifier extends SkLearnClassifier implements HasMultiDecisionFunctionField {
 
@@ -58,6 +60,9 @@ public class HistGradientBoostingClassifier extends SkLearnClassifier implements
 
 		Schema segmentSchema = schema.toAnonymousRegressorSchema(DataType.DOUBLE);
 
+		BinThresholds binThresholds = new BinThresholds(binMapper);
+		PredicateManager predicateManager = new EnsemblePredicateManager();
+
 		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
 
 		MiningModel miningModel;
@@ -69,7 +74,7 @@ public class HistGradientBoostingClassifier extends SkLearnClassifier implements
 				throw new IllegalArgumentException();
 			}
 
-			Model model = HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binMapper, baselinePredictions, 0, segmentSchema)
+			Model model = HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binThresholds, predicateManager, baselinePredictions, 0, segmentSchema)
 				.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(1)), OpType.CONTINUOUS, DataType.DOUBLE));
 
 			miningModel = MiningModelUtil.createBinaryLogisticClassification(model, 1d, 0d, RegressionModel.NormalizationMethod.LOGIT, false, schema);
@@ -85,7 +90,7 @@ public class HistGradientBoostingClassifier extends SkLearnClassifier implements
 			List<Model> models = new ArrayList<>();
 
 			for(int i = 0, columns = categoricalLabel.size(); i < columns; i++){
-				Model model = HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binMapper, baselinePredictions, i, segmentSchema)
+				Model model = HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binThresholds, predicateManager, baselinePredictions, i, segmentSchema)
 					.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(i)), OpType.CONTINUOUS, DataType.DOUBLE));
 
 				models.add(model);
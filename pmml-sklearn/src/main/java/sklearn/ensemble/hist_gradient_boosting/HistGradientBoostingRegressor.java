@@ -22,8 +22,10 @@ import java.util.Collections;
 import java.util.List;
 
 import org.dmg.pmml.mining.MiningModel;
+import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
 import sklearn.SkLearnRegressor;
+import sklearn.tree.EnsemblePredicateManager;
 
 public class HistGradientBoostingRegressor extends SkLearnRegressor {
 
@@ -37,7 +39,10 @@ public class HistGradientBoostingRegressor extends SkLearnRegressor {
 		BinMapper binMapper = getBinMapper();
 		List<List<TreePredictor>> predictors = getPredictors();
 
-		return HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binMapper, Collections.singletonList(baselinePrediction), 0, schema);
+		BinThresholds binThresholds = new BinThresholds(binMapper);
+		PredicateManager predicateManager = new EnsemblePredicateManager();
+
+		return HistGradientBoostingUtil.encodeHistGradientBoosting(predictors, binThresholds, predicateManager, Collections.singletonList(baselinePrediction), 0, schema);
 	}
 
 	public Number getBaselinePrediction(){
@@ -32,6 +32,7 @@ import org.jpmml.converter.ModelUtil;
 import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.mining.MiningModelUtil;
+import sklearn.tree.EnsemblePredicateManager;
 
 public class HistGradientBoostingUtil {
 
@@ -49,18 +50,43 @@ public class HistGradientBoostingUtil {
 		return encodeHistGradientBoosting(treePredictors, binMapper, baselinePrediction, schema);
 	}
 
+	/**
+	 * <p>
+	 * Encodes the member trees of a single target column.
+	 * </p>
+	 *
+	 * The bin thresholds and the predicate manager may be shared between target columns,
+	 * so that all member trees of the estimator reuse the same split value and predicate objects.
+	 */
+	static
+	public MiningModel encodeHistGradientBoosting(List<List<TreePredictor>> predictors, BinThresholds binThresholds, PredicateManager predicateManager, List<? extends Number> baselinePredictions, int column, Schema schema){
+		List<TreePredictor> treePredictors = predictors.stream()
+			.map(predictor -> predictor.get(column))
+			.collect(Collectors.toList());
+
+		Number baselinePrediction = baselinePredictions.get(column);
+
+		return encodeHistGradientBoosting(treePredictors, binThresholds, predicateManager, baselinePrediction, schema);
+	}
+
 	static
 	public MiningModel encodeHistGradientBoosting(List<TreePredictor> treePredictors, BinMapper binMapper, Number baselinePrediction, Schema schema){
-		ContinuousLabel continuousLabel = (ContinuousLabel)schema.getLabel();
+		BinThresholds binThresholds = new BinThresholds(binMapper);
+		PredicateManager predicateManager = new EnsemblePredicateManager();
 
-		PredicateManager predicateManager = new PredicateManager();
+		return encodeHistGradientBoosting(treePredictors, binThresholds, predicateManager, baselinePrediction, schema);
+	}
+
+	static
+	public MiningModel encodeHistGradientBoosting(List<TreePredictor> treePredictors, BinThresholds binThresholds, PredicateManager predicateManager, Number baselinePrediction, Schema schema){
+		ContinuousLabel continuousLabel = (ContinuousLabel)schema.getLabel();
 
 		Schema segmentSchema = schema.toAnonymousRegressorSchema(DataType.DOUBLE);
 
 		List<TreeModel> treeModels = new ArrayList<>();
 
 		for(TreePredictor treePredictor : treePredictors){
-			TreeModel treeModel = TreePredictorUtil.encodeTreeModel(treePredictor, binMapper, predicateManager, segmentSchema);
+			TreeModel treeModel = TreePredictorUtil.encodeTreeModel(treePredictor, binThresholds, predicateManager, segmentSchema);
 
 			treeModels.add(treeModel);
 		}
@@ -21,8 +21,8 @@ package sklearn.ensemble.hist_gradient_boosting;
 import java.util.Arrays;
 import java.util.List;
 
-import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Ints;
+import numpy.core.PrimitiveArrayUtil;
 import org.jpmml.python.PythonObject;
 
 public class TreePredictor extends PythonObject {
@@ -42,51 +42,51 @@ public class TreePredictor extends PythonObject {
 	}
 
 	public double[] getValues(){
-		return Doubles.toArray(getNodeAttribute("value"));
+		return getDoubleNodeAttribute("value");
 	}
 
 	public int[] getCount(){
-		return Ints.toArray(getNodeAttribute("count"));
+		return getIntNodeAttribute("count");
 	}
 
 	public int[] getFeatureIdx(){
-		return Ints.toArray(getNodeAttribute("feature_idx"));
+		return getIntNodeAttribute("feature_idx");
 	}
 
 	public double[] getThreshold(){
-		List<? extends Number> threshold = getNodeAttribute("threshold");
+		double[] threshold = getDoubleNodeAttribute("threshold");
 
 		// SkLearn 0.23
 		if(threshold != null){
-			return Doubles.toArray(threshold);
+			return threshold;
 		}
 
 		// SkLearn 0.24+
-		return Doubles.toArray(getNodeAttribute("num_threshold"));
+		return getDoubleNodeAttribute("num_threshold");
 	}
 
 	public int[] getMissingGoToLeft(){
-		return Ints.toArray(getNodeAttribute("missing_go_to_left"));
+		return getIntNodeAttribute("missing_go_to_left");
 	}
 
 	public int[] getLeft(){
-		return Ints.toArray(getNodeAttribute("left"));
+		return getIntNodeAttribute("left");
 	}
 
 	public int[] getRight(){
-		return Ints.toArray(getNodeAttribute("right"));
+		return getIntNodeAttribute("right");
 	}
 
 	public int[] isLeaf(){
-		return Ints.toArray(getNodeAttribute("is_leaf"));
+		return getIntNodeAttribute("is_leaf");
 	}
 
 	public int[] getBinThreshhold(){
-		return Ints.toArray(getNodeAttribute("bin_threshold"));
+		return getIntNodeAttribute("bin_threshold");
 	}
 
 	public int[] isCategorical(){
-		List<? extends Number> isCategorical = getNodeAttribute("is_categorical");
+		int[] isCategorical = getIntNodeAttribute("is_categorical");
 
 		// SkLearn 0.23
 		if(isCategorical == null){
@@ -94,11 +94,11 @@ public class TreePredictor extends PythonObject {
 		}
 
 		// SkLearn 0.24+
-		return Ints.toArray(isCategorical);
+		return isCategorical;
 	}
 
 	public int[] getBitsetIdx(){
-		List<? extends Number> bitsetIdx = getNodeAttribute("bitset_idx");
+		int[] bitsetIdx = getIntNodeAttribute("bitset_idx");
 
 		// SkLearn 0.23
 		if(bitsetIdx == null){
@@ -106,11 +106,15 @@ public class TreePredictor extends PythonObject {
 		}
 
 		// SkLearn 0.24+
-		return Ints.toArray(bitsetIdx);
+		return bitsetIdx;
 	}
 
-	private List<? extends Number> getNodeAttribute(String key){
-		return (List)getArray("nodes", key);
+	private int[] getIntNodeAttribute(String key){
+		return PrimitiveArrayUtil.getIntArray(this, "nodes", key);
+	}
+
+	private double[] getDoubleNodeAttribute(String key){
+		return PrimitiveArrayUtil.getDoubleArray(this, "nodes", key);
 	}
 
 	public static final List<String> DTYPE_PREDICTOR_OLD = Arrays.asList("value", "count", "feature_idx", "threshold", "missing_go_to_left", "left", "right", "gain", "depth", "is_leaf", "bin_threshold");
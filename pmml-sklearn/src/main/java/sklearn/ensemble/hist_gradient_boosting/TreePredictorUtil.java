@@ -26,7 +26,6 @@ import org.dmg.pmml.False;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.Predicate;
 import org.dmg.pmml.SimplePredicate;
-import org.dmg.pmml.True;
 import org.dmg.pmml.tree.BranchNode;
 import org.dmg.pmml.tree.LeafNode;
 import org.dmg.pmml.tree.Node;
@@ -40,6 +39,7 @@ import org.jpmml.converter.MissingValueFeature;
 import org.jpmml.converter.ModelUtil;
 import org.jpmml.converter.PredicateManager;
 import org.jpmml.converter.Schema;
+import sklearn.tree.NodeEncoder;
 
 public class TreePredictorUtil {
 
@@ -55,160 +55,192 @@ public class TreePredictorUtil {
 
 	static
 	public TreeModel encodeTreeModel(TreePredictor treePredictor, BinMapper binMapper, PredicateManager predicateManager, Schema schema){
+		BinThresholds binThresholds = new BinThresholds(binMapper);
+
+		return encodeTreeModel(treePredictor, binThresholds, predicateManager, schema);
+	}
+
+	static
+	public TreeModel encodeTreeModel(TreePredictor treePredictor, BinThresholds binThresholds, PredicateManager predicateManager, Schema schema){
 		int[] leaf = treePredictor.isLeaf();
 		int[] leftChildren = treePredictor.getLeft();
 		int[] rightChildren = treePredictor.getRight();
 		int[] featureIdx = treePredictor.getFeatureIdx();
 		int[] isCategorical = treePredictor.isCategorical();
 		double[] thresholds = treePredictor.getThreshold();
+		int[] binThreshold = treePredictor.getBinThreshhold();
 		int[] bitsetIdx = treePredictor.getBitsetIdx();
 		int[] missingGoToLeft = treePredictor.getMissingGoToLeft();
 		double[] values = treePredictor.getValues();
 		int[] rawLeftCatBitsets = treePredictor.getRawLeftCatBitsets();
 
-		Node root = encodeNode(0, True.INSTANCE, leaf, leftChildren, rightChildren, featureIdx, isCategorical, thresholds, bitsetIdx, missingGoToLeft, values, binMapper, rawLeftCatBitsets, new CategoryManager(), predicateManager, schema);
+		NodeEncoder nodeEncoder = new NodeEncoder(){
 
-		TreeModel treeModel = new TreeModel(MiningFunction.REGRESSION, ModelUtil.createMiningSchema(schema.getLabel()), root)
-			.setSplitCharacteristic(TreeModel.SplitCharacteristic.BINARY_SPLIT)
-			.setMissingValueStrategy(TreeModel.MissingValueStrategy.DEFAULT_CHILD);
+			@Override
+			public boolean isLeaf(int index){
 
-		return treeModel;
-	}
+				switch(leaf[index]){
+					case 0:
+						return false;
+					case 1:
+						return true;
+					default:
+						throw new IllegalArgumentException();
+				}
+			}
 
-	static
-	private Node encodeNode(int index, Predicate predicate, int[] leaf, int[] leftChildren, int[] rightChildren, int[] featureIdx, int[] isCategorical, double[] thresholds, int[] bitsetIdx, int[] missingGoToLeft, double[] values, BinMapper binMapper, int[] rawLeftCatBitsets, CategoryManager categoryManager, PredicateManager predicateManager, Schema schema){
-		Integer id = Integer.valueOf(index);
+			@Override
+			public Node encodeBranch(int index, Predicate predicate, CategoryManager categoryManager, Split split){
+				Integer id = Integer.valueOf(index);
 
-		if(leaf[index] == 0){
-			Feature feature = schema.getFeature(featureIdx[index]);
+				Feature feature = schema.getFeature(featureIdx[index]);
 
-			CategoryManager leftCategoryManager = categoryManager;
-			CategoryManager rightCategoryManager = categoryManager;
+				CategoryManager leftCategoryManager = categoryManager;
+				CategoryManager rightCategoryManager = categoryManager;
 
-			Predicate leftPredicate;
-			Predicate rightPredicate;
+				Predicate leftPredicate;
+				Predicate rightPredicate;
 
-			boolean defaultLeft = (missingGoToLeft[index] == 1);
+				boolean defaultLeft = (missingGoToLeft[index] == 1);
 
-			boolean categorical = ((isCategorical != null) && (isCategorical[index] == 1));
-			if(categorical){
+				boolean categorical = ((isCategorical != null) && (isCategorical[index] == 1));
+				if(categorical){
 
-				if(feature instanceof CategoricalFeature){
-					CategoricalFeature categoricalFeature = (CategoricalFeature)feature;
+					if(feature instanceof CategoricalFeature){
+						CategoricalFeature categoricalFeature = (CategoricalFeature)feature;
 
-					String name = categoricalFeature.getName();
+						String name = categoricalFeature.getName();
 
-					java.util.function.Predicate<Object> valueFilter = categoryManager.getValueFilter(name);
+						java.util.function.Predicate<Object> valueFilter = categoryManager.getValueFilter(name);
 
-					int row = bitsetIdx[index];
+						int row = bitsetIdx[index];
 
-					// XXX
-					int rawLeftCatBitset = rawLeftCatBitsets[row * 8];
+						// XXX
+						int rawLeftCatBitset = rawLeftCatBitsets[row * 8];
 
-					List<Object> leftValues = new ArrayList<>();
-					List<Object> rightValues = new ArrayList<>();
+						List<Object> leftValues = new ArrayList<>();
+						List<Object> rightValues = new ArrayList<>();
 
-					for(int i = 0; i < categoricalFeature.size(); i++){
-						Object value = categoricalFeature.getValue(i);
+						for(int i = 0; i < categoricalFeature.size(); i++){
+							Object value = categoricalFeature.getValue(i);
 
-						if(!valueFilter.test(value)){
-							continue;
-						} // End if
+							if(!valueFilter.test(value)){
+								continue;
+							} // End if
 
-						if(((rawLeftCatBitset >> i) & 1) == 1){
-							leftValues.add(value);
-						} else
+							if(((rawLeftCatBitset >> i) & 1) == 1){
+								leftValues.add(value);
+							} else
 
-						{
-							rightValues.add(value);
+							{
+								rightValues.add(value);
+							}
 						}
-					}
 
-					leftCategoryManager = categoryManager.fork(name, leftValues);
-					rightCategoryManager = categoryManager.fork(name, rightValues);
+						leftCategoryManager = categoryManager.fork(name, leftValues);
+						rightCategoryManager = categoryManager.fork(name, rightValues);
 
-					if(!leftValues.isEmpty()){
-						leftPredicate = predicateManager.createPredicate(categoricalFeature, leftValues);
-					} else
+						if(!leftValues.isEmpty()){
+							leftPredicate = predicateManager.createPredicate(categoricalFeature, leftValues);
+						} else
 
-					{
-						leftPredicate = False.INSTANCE;
-					} // End if
+						{
+							leftPredicate = False.INSTANCE;
+						} // End if
+
+						if(!rightValues.isEmpty()){
+							rightPredicate = predicateManager.createPredicate(categoricalFeature, rightValues);
+						} else
 
-					if(!rightValues.isEmpty()){
-						rightPredicate = predicateManager.createPredicate(categoricalFeature, rightValues);
+						{
+							rightPredicate = False.INSTANCE;
+						}
 					} else
 
 					{
-						rightPredicate = False.INSTANCE;
+						throw new IllegalArgumentException();
 					}
 				} else
 
 				{
-					throw new IllegalArgumentException();
-				}
-			} else
+					double threshold = thresholds[index];
 
-			{
-				double threshold = thresholds[index];
+					if(feature instanceof BinaryFeature){
+						BinaryFeature binaryFeature = (BinaryFeature)feature;
 
-				if(feature instanceof BinaryFeature){
-					BinaryFeature binaryFeature = (BinaryFeature)feature;
+						if(threshold != 0.5d){
+							throw new IllegalArgumentException();
+						}
 
-					if(threshold != 0.5d){
-						throw new IllegalArgumentException();
-					}
+						Object value = binaryFeature.getValue();
 
-					Object value = binaryFeature.getValue();
+						leftPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.NOT_EQUAL, value);
+						rightPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.EQUAL, value);
 
-					leftPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.NOT_EQUAL, value);
-					rightPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.EQUAL, value);
+						// XXX
+						defaultLeft = true;
+					} else
 
-					// XXX
-					defaultLeft = true;
-				} else
+					if(feature instanceof MissingValueFeature){
+						MissingValueFeature missingValueFeature = (MissingValueFeature)feature;
 
-				if(feature instanceof MissingValueFeature){
-					MissingValueFeature missingValueFeature = (MissingValueFeature)feature;
+						if(threshold != 0.5d){
+							throw new IllegalArgumentException();
+						}
 
-					if(threshold != 0.5d){
-						throw new IllegalArgumentException();
-					}
+						leftPredicate = predicateManager.createSimplePredicate(missingValueFeature, SimplePredicate.Operator.IS_NOT_MISSING, null);
+						rightPredicate = predicateManager.createSimplePredicate(missingValueFeature, SimplePredicate.Operator.IS_MISSING, null);
+					} else
 
-					leftPredicate = predicateManager.createSimplePredicate(missingValueFeature, SimplePredicate.Operator.IS_NOT_MISSING, null);
-					rightPredicate = predicateManager.createSimplePredicate(missingValueFeature, SimplePredicate.Operator.IS_MISSING, null);
-				} else
+					{
+						ContinuousFeature continuousFeature = feature.toContinuousFeature(DataType.DOUBLE);
 
-				{
-					ContinuousFeature continuousFeature = feature.toContinuousFeature(DataType.DOUBLE);
+						Double value;
 
-					Double value = threshold;
+						if(binThreshold != null){
+							value = binThresholds.getValue(featureIdx[index], binThreshold[index], threshold);
+						} else
 
-					leftPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.LESS_OR_EQUAL, value);
-					rightPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.GREATER_THAN, value);
+						{
+							value = threshold;
+						}
+
+						leftPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.LESS_OR_EQUAL, value);
+						rightPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.GREATER_THAN, value);
+					}
 				}
+
+				int leftIndex = leftChildren[index];
+				int rightIndex = rightChildren[index];
+
+				split
+					.setLeft(leftIndex, leftPredicate, leftCategoryManager)
+					.setRight(rightIndex, rightPredicate, rightCategoryManager);
+
+				Node result = new BranchNode(null, predicate)
+					.setId(id)
+					.setDefaultChild(Integer.valueOf(defaultLeft ? leftIndex : rightIndex));
+
+				return result;
 			}
 
-			Node leftChild = encodeNode(leftChildren[index], leftPredicate, leaf, leftChildren, rightChildren, featureIdx, isCategorical, thresholds, bitsetIdx, missingGoToLeft, values, binMapper, rawLeftCatBitsets, leftCategoryManager, predicateManager, schema);
-			Node rightChild = encodeNode(rightChildren[index], rightPredicate, leaf, leftChildren, rightChildren, featureIdx, isCategorical, thresholds, bitsetIdx, missingGoToLeft, values, binMapper, rawLeftCatBitsets, rightCategoryManager, predicateManager, schema);
+			@Override
+			public Node encodeLeaf(int index, Predicate predicate){
+				Integer id = Integer.valueOf(index);
 
-			Node result = new BranchNode(null, predicate)
-				.setId(id)
-				.setDefaultChild(defaultLeft ? leftChild.getId() : rightChild.getId())
-				.addNodes(leftChild, rightChild);
+				Node result = new LeafNode(values[index], predicate)
+					.setId(id);
 
-			return result;
-		} else
+				return result;
+			}
+		};
 
-		if(leaf[index] == 1){
-			Node result = new LeafNode(values[index], predicate)
-				.setId(id);
+		Node root = nodeEncoder.encode(0);
 
-			return result;
-		} else
+		TreeModel treeModel = new TreeModel(MiningFunction.REGRESSION, ModelUtil.createMiningSchema(schema.getLabel()), root)
+			.setSplitCharacteristic(TreeModel.SplitCharacteristic.BINARY_SPLIT)
+			.setMissingValueStrategy(TreeModel.MissingValueStrategy.DEFAULT_CHILD);
 
-		{
-			throw new IllegalArgumentException();
-		}
+		return treeModel;
 	}
 }
\ No newline at end of file
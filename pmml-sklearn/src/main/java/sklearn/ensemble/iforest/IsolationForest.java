@@ -19,17 +19,16 @@
 package sklearn.ensemble.iforest;
 
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.google.common.primitives.Ints;
 import org.dmg.pmml.Expression;
 import org.dmg.pmml.FieldRef;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.PMMLFunctions;
-import org.dmg.pmml.PMMLObject;
 import org.dmg.pmml.Visitor;
-import org.dmg.pmml.VisitorAction;
 import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.mining.Segmentation;
 import org.dmg.pmml.mining.Segmentation.MultipleModelMethod;
@@ -45,8 +44,6 @@ import org.jpmml.converter.Transformation;
 import org.jpmml.converter.ValueUtil;
 import org.jpmml.converter.mining.MiningModelUtil;
 import org.jpmml.converter.transformations.AbstractTransformation;
-import org.jpmml.model.visitors.AbstractVisitor;
-import org.jpmml.python.ClassDictUtil;
 import org.jpmml.python.HasArray;
 import org.jpmml.sklearn.SkLearnEncoder;
 import sklearn.OutlierDetector;
@@ -55,10 +52,12 @@ import sklearn.Regressor;
 import sklearn.VersionUtil;
 import sklearn.ensemble.EnsembleRegressor;
 import sklearn.ensemble.EnsembleUtil;
+import sklearn.tree.EnsemblePredicateManager;
 import sklearn.tree.HasTreeOptions;
 import sklearn.tree.Tree;
 import sklearn.tree.TreeRegressor;
 import sklearn.tree.TreeUtil;
+import sklearn.tree.visitors.AbstractIterativeTreeModelTransformer;
 
 public class IsolationForest extends EnsembleRegressor implements HasTreeOptions, OutlierDetector {
 
@@ -94,62 +93,58 @@ public class IsolationForest extends EnsembleRegressor implements HasTreeOptions
 		boolean nodeSampleCorrected = (sklearnVersion != null && VersionUtil.compareVersion(sklearnVersion, "0.21") >= 0);
 
 		Boolean numeric = (Boolean)getOption(HasTreeOptions.OPTION_NUMERIC, Boolean.TRUE);
+		Integer parallelism = TreeUtil.getParallelism(this);
 
-		PredicateManager predicateManager = new PredicateManager();
+		PredicateManager predicateManager = new EnsemblePredicateManager();
 		ScoreDistributionManager scoreDistributionManager = new ScoreDistributionManager();
 
 		Schema segmentSchema = schema.toAnonymousSchema();
 
-		List<TreeModel> treeModels = new ArrayList<>();
+		List<Schema> estimatorSchemas = new ArrayList<>();
 
 		for(int i = 0; i < estimators.size(); i++){
-			Regressor estimator = estimators.get(i);
 			List<Integer> estimatorFeatures = estimatorsFeatures.get(i);
 
-			Schema estimatorSchema = segmentSchema.toSubSchema(Ints.toArray(estimatorFeatures));
-
-			TreeRegressor treeRegressor = (TreeRegressor)estimator;
-
-			Tree tree = treeRegressor.getTree();
-
-			TreeModel treeModel = TreeUtil.encodeTreeModel(treeRegressor, MiningFunction.REGRESSION, numeric, predicateManager, scoreDistributionManager, estimatorSchema);
-
-			Visitor visitor = new AbstractVisitor(){
-
-				private int[] nodeSamples = tree.getNodeSamples();
+			estimatorSchemas.add(segmentSchema.toSubSchema(Ints.toArray(estimatorFeatures)));
+		}
 
+		List<TreeModel> treeModels = new ArrayList<>();
 
-				@Override
-				public VisitorAction visit(Node node){
+		if(parallelism != null && parallelism > 1){
 
-					if(node.hasScore()){
-						double nodeDepth = 0d;
+			// Create all encoder state in the calling thread, in the same order as during sequential encoding
+			for(int i = 0; i < estimators.size(); i++){
+				TreeRegressor treeRegressor = (TreeRegressor)estimators.get(i);
+				Schema estimatorSchema = estimatorSchemas.get(i);
 
-						Deque<PMMLObject> parents = getParents();
-						for(PMMLObject parent : parents){
+				TreeUtil.ensureContinuousFeatures(treeRegressor.getTree(), numeric, estimatorSchema);
+			}
 
-							if(!(parent instanceof Node)){
-								break;
-							}
+			SkLearnEncoder encoder = (SkLearnEncoder)schema.getEncoder();
 
-							nodeDepth++;
-						}
+			ForkJoinPool forkJoinPool = encoder.getForkJoinPool(parallelism);
 
-						double nodeSample = this.nodeSamples[ValueUtil.asInt((Number)node.getId())];
+			List<ForkJoinTask<TreeModel>> tasks = new ArrayList<>();
 
-						double averagePathLength = (corrected ? correctedAveragePathLength(nodeSample, nodeSampleCorrected) : averagePathLength(nodeSample));
+			for(int i = 0; i < estimators.size(); i++){
+				TreeRegressor treeRegressor = (TreeRegressor)estimators.get(i);
+				Schema estimatorSchema = estimatorSchemas.get(i);
 
-						node.setScore(nodeDepth + averagePathLength);
-					}
+				tasks.add(forkJoinPool.submit(() -> encodeTreeModel(treeRegressor, corrected, nodeSampleCorrected, numeric, predicateManager, scoreDistributionManager, estimatorSchema)));
+			}
 
-					return super.visit(node);
-				}
-			};
-			visitor.applyTo(treeModel);
+			for(ForkJoinTask<TreeModel> task : tasks){
+				treeModels.add(task.join());
+			}
+		} else
 
-			ClassDictUtil.clearContent(tree);
+		{
+			for(int i = 0; i < estimators.size(); i++){
+				TreeRegressor treeRegressor = (TreeRegressor)estimators.get(i);
+				Schema estimatorSchema = estimatorSchemas.get(i);
 
-			treeModels.add(treeModel);
+				treeModels.add(encodeTreeModel(treeRegressor, corrected, nodeSampleCorrected, numeric, predicateManager, scoreDistributionManager, estimatorSchema));
+			}
 		}
 
 		// "rawAnomalyScore / averagePathLength(maxSamples)"
@@ -264,6 +259,74 @@ public class IsolationForest extends EnsembleRegressor implements HasTreeOptions
 		return 0d;
 	}
 
+	static
+	private TreeModel encodeTreeModel(TreeRegressor treeRegressor, boolean corrected, boolean nodeSampleCorrected, boolean numeric, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
+		double[] pathLengths = encodePathLengths(treeRegressor.getTree(), corrected, nodeSampleCorrected);
+
+		TreeModel treeModel = TreeUtil.encodeTreeModel(treeRegressor, MiningFunction.REGRESSION, numeric, predicateManager, scoreDistributionManager, schema);
+
+		Visitor visitor = new AbstractIterativeTreeModelTransformer(){
+
+			@Override
+			public void enterNode(Node node){
+
+				if(node.hasScore()){
+					node.setScore(pathLengths[ValueUtil.asInt((Number)node.getId())]);
+				}
+			}
+		};
+		visitor.applyTo(treeModel);
+
+		return treeModel;
+	}
+
+	/**
+	 * <p>
+	 * Calculates the path length of every node, which is the sum of the node depth and the average path length of an unbuilt subtree.
+	 * </p>
+	 *
+	 * The tree is traversed in pre-order using a primitive array-backed stack.
+	 */
+	static
+	private double[] encodePathLengths(Tree tree, boolean corrected, boolean nodeSampleCorrected){
+		int[] leftChildren = tree.getChildrenLeft();
+		int[] rightChildren = tree.getChildrenRight();
+		int[] nodeSamples = tree.getNodeSamples();
+
+		double[] result = new double[nodeSamples.length];
+
+		int[] depths = new int[nodeSamples.length];
+
+		int[] indices = new int[nodeSamples.length];
+		int size = 0;
+
+		indices[size++] = 0;
+
+		while(size > 0){
+			int index = indices[--size];
+
+			double nodeDepth = depths[index];
+			double nodeSample = nodeSamples[index];
+
+			double averagePathLength = (corrected ? correctedAveragePathLength(nodeSample, nodeSampleCorrected) : averagePathLength(nodeSample));
+
+			result[index] = nodeDepth + averagePathLength;
+
+			int leftIndex = leftChildren[index];
+			int rightIndex = rightChildren[index];
+
+			if(leftIndex >= 0 && rightIndex >= 0){
+				depths[leftIndex] = depths[index] + 1;
+				depths[rightIndex] = depths[index] + 1;
+
+				indices[size++] = rightIndex;
+				indices[size++] = leftIndex;
+			}
+		}
+
+		return result;
+	}
+
 	static
 	private double averagePathLength(double n){
 
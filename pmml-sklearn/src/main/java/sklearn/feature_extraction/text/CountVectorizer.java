@@ -22,16 +22,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.io.CharStreams;
 import numpy.core.ScalarUtil;
 import org.dmg.pmml.Apply;
@@ -84,20 +83,12 @@ public class CountVectorizer extends SkLearnTransformer implements HasSparseOutp
 	@Override
 	public List<Feature> encodeFeatures(List<Feature> features, SkLearnEncoder encoder){
 		Boolean lowercase = getLowercase();
-		Map<String, ?> vocabulary = getVocabulary();
 
 		ClassDictUtil.checkSize(1, features);
 
 		Feature feature = features.get(0);
 
-		BiMap<String, Integer> termIndexMap = HashBiMap.create(vocabulary.size());
-
-		Collection<? extends Map.Entry<String, ?>> entries = vocabulary.entrySet();
-		for(Map.Entry<String, ?> entry : entries){
-			termIndexMap.put(entry.getKey(), ValueUtil.asInteger((Number)ScalarUtil.decode(entry.getValue())));
-		}
-
-		BiMap<Integer, String> indexTermMap = termIndexMap.inverse();
+		String[] terms = getTerms();
 
 		TypeInfo dtype = getDType();
 
@@ -115,25 +106,8 @@ public class CountVectorizer extends SkLearnTransformer implements HasSparseOutp
 
 		encoder.addDefineFunction(defineFunction);
 
-		List<Feature> result = new ArrayList<>();
-
-		for(int i = 0, max = indexTermMap.size(); i < max; i++){
-			String term = indexTermMap.get(i);
-
-			Apply apply = encodeApply(defineFunction, feature, i, term);
-
-			Feature termFeature = new ObjectFeature(encoder, FieldNameUtil.create(functionName(), feature, term), dataType){
-
-				@Override
-				public ContinuousFeature toContinuousFeature(){
-					return toContinuousFeature(getName(), getDataType(), () -> apply);
-				}
-			};
-
-			result.add(termFeature);
-		}
-
-		return result;
+		// Term features are created on demand, because downstream feature selection typically retains only a small subset of them
+		return new TermFeatureList(defineFunction, feature, terms, dataType, encoder);
 	}
 
 	public DefineFunction encodeDefineFunction(Feature feature, SkLearnEncoder encoder){
@@ -271,6 +245,31 @@ public class CountVectorizer extends SkLearnTransformer implements HasSparseOutp
 		return getDict("vocabulary_");
 	}
 
+	/**
+	 * <p>
+	 * Gets the vocabulary as an array of terms, which is indexed by feature index.
+	 * </p>
+	 */
+	public String[] getTerms(){
+		Map<String, ?> vocabulary = getVocabulary();
+
+		String[] result = new String[vocabulary.size()];
+
+		Collection<? extends Map.Entry<String, ?>> entries = vocabulary.entrySet();
+		for(Map.Entry<String, ?> entry : entries){
+			String term = entry.getKey();
+			int index = ValueUtil.asInt((Number)ScalarUtil.decode(entry.getValue()));
+
+			if(index < 0 || index >= result.length || result[index] != null){
+				throw new IllegalArgumentException("Term \'" + term + "\' has invalid index " + index);
+			}
+
+			result[index] = term;
+		}
+
+		return result;
+	}
+
 	static
 	private List<String> loadStopWords(String stopWords){
 		InputStream is = (CountVectorizer.class).getResourceAsStream("/stop_words/" + stopWords + ".txt");
@@ -286,5 +285,63 @@ public class CountVectorizer extends SkLearnTransformer implements HasSparseOutp
 		}
 	}
 
+	private class TermFeatureList extends AbstractList<Feature> implements RandomAccess {
+
+		private DefineFunction defineFunction = null;
+
+		private Feature feature = null;
+
+		private String[] terms = null;
+
+		private DataType dataType = null;
+
+		private SkLearnEncoder encoder = null;
+
+		private Feature[] termFeatures = null;
+
+
+		private TermFeatureList(DefineFunction defineFunction, Feature feature, String[] terms, DataType dataType, SkLearnEncoder encoder){
+			this.defineFunction = defineFunction;
+			this.feature = feature;
+			this.terms = terms;
+			this.dataType = dataType;
+			this.encoder = encoder;
+
+			this.termFeatures = new Feature[terms.length];
+		}
+
+		@Override
+		public int size(){
+			return this.terms.length;
+		}
+
+		@Override
+		public Feature get(int index){
+			Feature termFeature = this.termFeatures[index];
+
+			if(termFeature == null){
+				termFeature = encodeTermFeature(index);
+
+				this.termFeatures[index] = termFeature;
+			}
+
+			return termFeature;
+		}
+
+		private Feature encodeTermFeature(int index){
+			DefineFunction defineFunction = this.defineFunction;
+			Feature feature = this.feature;
+			String term = this.terms[index];
+
+			return new ObjectFeature(this.encoder, FieldNameUtil.create(functionName(), feature, term), this.dataType){
+
+				@Override
+				public ContinuousFeature toContinuousFeature(){
+					return toContinuousFeature(getName(), getDataType(), () -> encodeApply(defineFunction, feature, index, term));
+				}
+			};
+		}
+	}
+
 	public static final String TOKEN_PATTERN = "(?u)\\b\\w\\w+\\b";
 }
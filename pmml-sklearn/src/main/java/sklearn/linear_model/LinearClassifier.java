@@ -26,7 +26,6 @@ import org.dmg.pmml.Model;
 import org.dmg.pmml.OpType;
 import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.regression.RegressionModel;
-import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.Feature;
 import org.jpmml.converter.ModelUtil;
@@ -59,7 +58,7 @@ public class LinearClassifier extends SkLearnClassifier implements HasMultiDecis
 
 		boolean hasProbabilityDistribution = hasProbabilityDistribution();
 
-		List<? extends Number> coef = getCoef();
+		List<LinearModelUtil.CoefRow> coefRows = getCoefRows();
 		List<? extends Number> intercept = getIntercept();
 
 		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
@@ -68,7 +67,9 @@ public class LinearClassifier extends SkLearnClassifier implements HasMultiDecis
 		if(numberOfClasses == 1){
 			SchemaUtil.checkSize(2, categoricalLabel);
 
-			RegressionModel regressionModel = RegressionModelUtil.createBinaryLogisticClassification(features, CMatrixUtil.getRow(coef, numberOfClasses, numberOfFeatures, 0), intercept.get(0), RegressionModel.NormalizationMethod.LOGIT, false, schema);
+			LinearModelUtil.CoefRow coefRow = coefRows.get(0);
+
+			RegressionModel regressionModel = RegressionModelUtil.createBinaryLogisticClassification(coefRow.select(features), coefRow.getValues(), intercept.get(0), RegressionModel.NormalizationMethod.LOGIT, false, schema);
 
 			if(hasProbabilityDistribution){
 				encodePredictProbaOutput(regressionModel, DataType.DOUBLE, categoricalLabel);
@@ -85,7 +86,9 @@ public class LinearClassifier extends SkLearnClassifier implements HasMultiDecis
 			List<Model> models = new ArrayList<>();
 
 			for(int i = 0, rows = categoricalLabel.size(); i < rows; i++){
-				Model model = RegressionModelUtil.createRegression(features, CMatrixUtil.getRow(coef, numberOfClasses, numberOfFeatures, i), intercept.get(i), RegressionModel.NormalizationMethod.LOGIT, segmentSchema)
+				LinearModelUtil.CoefRow coefRow = coefRows.get(i);
+
+				Model model = RegressionModelUtil.createRegression(coefRow.select(features), coefRow.getValues(), intercept.get(i), RegressionModel.NormalizationMethod.LOGIT, segmentSchema)
 					.setOutput(ModelUtil.createPredictedOutput(getMultiDecisionFunctionField(categoricalLabel.getValue(i)), OpType.CONTINUOUS, DataType.DOUBLE));
 
 				models.add(model);
@@ -113,6 +116,15 @@ public class LinearClassifier extends SkLearnClassifier implements HasMultiDecis
 		return getArrayShape("coef_", 2);
 	}
 
+	/**
+	 * @see LinearModelUtil#getCoefRows(org.jpmml.python.PythonObject, String, int, int)
+	 */
+	public List<LinearModelUtil.CoefRow> getCoefRows(){
+		int[] shape = getCoefShape();
+
+		return LinearModelUtil.getCoefRows(this, "coef_", shape[0], shape[1]);
+	}
+
 	public List<? extends Number> getIntercept(){
 		return getNumberArray("intercept_");
 	}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.linear_model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.primitives.Ints;
+import numpy.core.PrimitiveArrayUtil;
+import org.jpmml.converter.CMatrixUtil;
+import org.jpmml.python.ClassDictUtil;
+import org.jpmml.python.PythonObject;
+import scipy.sparse.CSRMatrix;
+
+public class LinearModelUtil {
+
+	private LinearModelUtil(){
+	}
+
+	/**
+	 * <p>
+	 * Splits a coefficient matrix into rows, leaving out zero coefficients.
+	 * </p>
+	 *
+	 * The coefficient matrix is either a dense Numpy array, or a SciPy CSR matrix (eg. after calling the <code>sparsify()</code> method).
+	 * A dense Numpy array is scanned row by row without caching its boxed array content.
+	 * A SciPy CSR matrix is read directly from its index arrays, without densifying it.
+	 *
+	 * @param rows The expected number of rows.
+	 * @param columns The expected number of columns.
+	 */
+	static
+	public List<CoefRow> getCoefRows(PythonObject object, String name, int rows, int columns){
+		Object value = object.get(name);
+
+		if(value instanceof CSRMatrix){
+			CSRMatrix matrix = (CSRMatrix)value;
+
+			return getCoefRows(matrix, rows, columns);
+		}
+
+		List<? extends Number> coef = PrimitiveArrayUtil.getNumberArray(object, name);
+
+		ClassDictUtil.checkSize(rows * columns, coef);
+
+		List<CoefRow> result = new ArrayList<>(rows);
+
+		for(int row = 0; row < rows; row++){
+			List<? extends Number> values = CMatrixUtil.getRow(coef, rows, columns, row);
+
+			result.add(CoefRow.fromDense(values));
+		}
+
+		return result;
+	}
+
+	static
+	private List<CoefRow> getCoefRows(CSRMatrix matrix, int rows, int columns){
+		int[] shape = matrix.getArrayShape();
+
+		if(shape.length != 2 || shape[0] != rows || shape[1] != columns){
+			throw new IllegalArgumentException("Expected " + rows + "x" + columns + " matrix, got " + Arrays.toString(shape) + " matrix");
+		}
+
+		List<?> data = matrix.getData();
+		List<Integer> indices = matrix.getIndices();
+		List<Integer> indPtr = matrix.getIndPtr();
+
+		ClassDictUtil.checkSize(rows + 1, indPtr);
+		ClassDictUtil.checkSize(data, indices);
+
+		List<CoefRow> result = new ArrayList<>(rows);
+
+		for(int row = 0; row < rows; row++){
+			int begin = indPtr.get(row);
+			int end = indPtr.get(row + 1);
+
+			result.add(CoefRow.fromSparse((List)data.subList(begin, end), indices.subList(begin, end), columns));
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * A row of a coefficient matrix.
+	 * </p>
+	 *
+	 * Only non-zero coefficients are retained, in the order of column indices.
+	 */
+	static
+	public class CoefRow {
+
+		private int[] indices = null;
+
+		private List<? extends Number> values = null;
+
+
+		/**
+		 * @param indices Column indices, or <code>null</code> if all columns are retained.
+		 */
+		private CoefRow(int[] indices, List<? extends Number> values){
+			this.indices = indices;
+			this.values = values;
+		}
+
+		/**
+		 * @return The elements of the specified list that correspond to retained coefficients.
+		 */
+		public <E> List<E> select(List<E> elements){
+			int[] indices = this.indices;
+
+			if(indices == null){
+				return elements;
+			}
+
+			List<E> result = new ArrayList<>(indices.length);
+
+			for(int index : indices){
+				result.add(elements.get(index));
+			}
+
+			return result;
+		}
+
+		public List<? extends Number> getValues(){
+			return this.values;
+		}
+
+		static
+		private CoefRow fromDense(List<? extends Number> values){
+			int count = 0;
+
+			for(int i = 0; i < values.size(); i++){
+				Number value = values.get(i);
+
+				if(value.doubleValue() != 0d){
+					count++;
+				}
+			}
+
+			if(count == values.size()){
+				return new CoefRow(null, values);
+			}
+
+			int[] indices = new int[count];
+			List<Number> nonZeroValues = new ArrayList<>(count);
+
+			for(int i = 0, j = 0; i < values.size(); i++){
+				Number value = values.get(i);
+
+				if(value.doubleValue() != 0d){
+					indices[j++] = i;
+					nonZeroValues.add(value);
+				}
+			}
+
+			return new CoefRow(indices, nonZeroValues);
+		}
+
+		static
+		private CoefRow fromSparse(List<? extends Number> values, List<Integer> indices, int columns){
+			Integer[] order = new Integer[values.size()];
+
+			for(int i = 0; i < order.length; i++){
+				order[i] = i;
+			}
+
+			// SciPy does not guarantee that column indices are sorted
+			Arrays.sort(order, (left, right) -> Integer.compare(indices.get(left), indices.get(right)));
+
+			List<Integer> nonZeroIndices = new ArrayList<>(order.length);
+			List<Number> nonZeroValues = new ArrayList<>(order.length);
+
+			int prevIndex = -1;
+
+			for(Integer i : order){
+				int index = indices.get(i);
+				Number value = values.get(i);
+
+				if(index < 0 || index >= columns){
+					throw new IllegalArgumentException("Column index " + index + " is out of range [0, " + columns + ")");
+				} else
+
+				if(index == prevIndex){
+					throw new IllegalArgumentException("Column index " + index + " is not unique");
+				} // End if
+
+				if(value.doubleValue() != 0d){
+					nonZeroIndices.add(index);
+					nonZeroValues.add(value);
+				}
+
+				prevIndex = index;
+			}
+
+			return new CoefRow(Ints.toArray(nonZeroIndices), nonZeroValues);
+		}
+	}
+}
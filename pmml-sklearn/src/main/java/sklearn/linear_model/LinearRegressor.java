@@ -25,7 +25,6 @@ import com.google.common.collect.Iterables;
 import org.dmg.pmml.Model;
 import org.dmg.pmml.mining.Segmentation;
 import org.dmg.pmml.regression.RegressionModel;
-import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.Feature;
 import org.jpmml.converter.Label;
 import org.jpmml.converter.ScalarLabel;
@@ -66,15 +65,16 @@ public class LinearRegressor extends SkLearnRegressor {
 
 	@Override
 	public Model encodeModel(Schema schema){
-		List<? extends Number> coef = getCoef();
+		List<LinearModelUtil.CoefRow> coefRows = getCoefRows();
 		List<? extends Number> intercept = getIntercept();
 
 		Label label = schema.getLabel();
-		List<? extends Feature> features = schema.getFeatures();
 
 		int numberOfOutputs = getNumberOfOutputs();
 		if(numberOfOutputs == 1){
-			return createRegression(coef, Iterables.getOnlyElement(intercept), schema);
+			LinearModelUtil.CoefRow coefRow = Iterables.getOnlyElement(coefRows);
+
+			return createRegression(coefRow.getValues(), Iterables.getOnlyElement(intercept), toSelectedSchema(coefRow, schema));
 		} else
 
 		if(numberOfOutputs >= 2){
@@ -87,7 +87,9 @@ public class LinearRegressor extends SkLearnRegressor {
 			for(int i = 0, max = numberOfOutputs; i < max; i++){
 				Schema segmentSchema = schema.toRelabeledSchema(scalarLabels.get(i));
 
-				Model model = createRegression(CMatrixUtil.getRow(coef, numberOfOutputs, features.size(), i), intercept.get(i), segmentSchema);
+				LinearModelUtil.CoefRow coefRow = coefRows.get(i);
+
+				Model model = createRegression(coefRow.getValues(), intercept.get(i), toSelectedSchema(coefRow, segmentSchema));
 
 				models.add(model);
 			}
@@ -112,7 +114,26 @@ public class LinearRegressor extends SkLearnRegressor {
 		return getArrayShape("coef_");
 	}
 
+	/**
+	 * @see LinearModelUtil#getCoefRows(org.jpmml.python.PythonObject, String, int, int)
+	 */
+	public List<LinearModelUtil.CoefRow> getCoefRows(){
+		return LinearModelUtil.getCoefRows(this, "coef_", getNumberOfOutputs(), getNumberOfFeatures());
+	}
+
 	public List<? extends Number> getIntercept(){
 		return getNumberArray("intercept_");
 	}
+
+	static
+	private Schema toSelectedSchema(LinearModelUtil.CoefRow coefRow, Schema schema){
+		List<? extends Feature> features = schema.getFeatures();
+
+		List<? extends Feature> selectedFeatures = coefRow.select(features);
+		if(selectedFeatures == features){
+			return schema;
+		}
+
+		return new Schema(schema.getEncoder(), schema.getLabel(), selectedFeatures);
+	}
 }
\ No newline at end of file
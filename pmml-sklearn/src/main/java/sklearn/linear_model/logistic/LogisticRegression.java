@@ -31,7 +31,6 @@ import org.dmg.pmml.mining.MiningModel;
 import org.dmg.pmml.mining.Segmentation;
 import org.dmg.pmml.regression.RegressionModel;
 import org.dmg.pmml.regression.RegressionTable;
-import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.ContinuousFeature;
 import org.jpmml.converter.Feature;
@@ -45,6 +44,7 @@ import org.jpmml.python.ClassDictUtil;
 import sklearn.Estimator;
 import sklearn.VersionUtil;
 import sklearn.linear_model.LinearClassifier;
+import sklearn.linear_model.LinearModelUtil;
 
 public class LogisticRegression extends LinearClassifier {
 
@@ -91,7 +91,7 @@ public class LogisticRegression extends LinearClassifier {
 		int numberOfClasses = shape[0];
 		int numberOfFeatures = shape[1];
 
-		List<? extends Number> coef = getCoef();
+		List<LinearModelUtil.CoefRow> coefRows = getCoefRows();
 		List<? extends Number> intercept = getIntercept();
 
 		PMMLEncoder encoder = schema.getEncoder();
@@ -110,7 +110,9 @@ public class LogisticRegression extends LinearClassifier {
 
 			Schema segmentSchema = schema.toRelabeledSchema(null);
 
-			Model firstModel = RegressionModelUtil.createRegression(features, CMatrixUtil.getRow(coef, 1, numberOfFeatures, 0), intercept.get(0), null, segmentSchema)
+			LinearModelUtil.CoefRow coefRow = coefRows.get(0);
+
+			Model firstModel = RegressionModelUtil.createRegression(coefRow.select(features), coefRow.getValues(), intercept.get(0), null, segmentSchema)
 				.setOutput(ModelUtil.createPredictedOutput(Estimator.FIELD_DECISION_FUNCTION, OpType.CONTINUOUS, DataType.DOUBLE));
 
 			Feature feature = new ContinuousFeature(encoder, Estimator.FIELD_DECISION_FUNCTION, DataType.DOUBLE);
@@ -141,7 +143,9 @@ public class LogisticRegression extends LinearClassifier {
 			List<RegressionTable> regressionTables = new ArrayList<>();
 
 			for(int i = 0; i < categoricalLabel.size(); i++){
-				RegressionTable regressionTable = RegressionModelUtil.createRegressionTable(features, CMatrixUtil.getRow(coef, numberOfClasses, numberOfFeatures, i), intercept.get(i))
+				LinearModelUtil.CoefRow coefRow = coefRows.get(i);
+
+				RegressionTable regressionTable = RegressionModelUtil.createRegressionTable(coefRow.select(features), coefRow.getValues(), intercept.get(i))
 					.setTargetCategory(categoricalLabel.getValue(i));
 
 				regressionTables.add(regressionTable);
@@ -20,12 +20,27 @@ package sklearn.neighbors;
 
 import java.util.List;
 
+import numpy.core.PrimitiveArrayUtil;
+
 public interface HasTrainingData {
 
 	List<? extends Number> getFitX();
 
 	int[] getFitXShape();
 
+	/**
+	 * <p>
+	 * Gets the training data in column-major layout.
+	 * </p>
+	 */
+	default
+	List<List<? extends Number>> getFitXColumns(){
+		List<? extends Number> fitX = getFitX();
+		int[] shape = getFitXShape();
+
+		return (List)PrimitiveArrayUtil.transpose(fitX, shape[0], shape[1]);
+	}
+
 	List<?> getId();
 
 	List<? extends Number> getY();
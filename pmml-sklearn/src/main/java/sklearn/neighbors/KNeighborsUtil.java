@@ -30,6 +30,7 @@ import org.dmg.pmml.CompareFunction;
 import org.dmg.pmml.ComparisonMeasure;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.Euclidean;
+import org.dmg.pmml.InlineTable;
 import org.dmg.pmml.Measure;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.Minkowski;
@@ -85,10 +86,12 @@ public class KNeighborsUtil {
 		int numberOfNeighbors = estimator.getNumberOfNeighbors();
 		int numberOfOutputs = estimator.getNumberOfOutputs();
 
-		List<? extends Number> fitX = estimator.getFitX();
+		List<List<? extends Number>> fitXColumns = estimator.getFitXColumns();
 		List<?> id = estimator.getId();
 		List<? extends Number> y = estimator.getY();
 
+		ClassDictUtil.checkSize(numberOfFeatures, fitXColumns);
+
 		if(id != null){
 			ClassDictUtil.checkSize(numberOfInstances, id);
 		} // End if
@@ -174,10 +177,16 @@ public class KNeighborsUtil {
 
 			knnInputs.addKNNInputs(knnInput);
 
-			data.put(instanceField.getColumn(), CMatrixUtil.getColumn(fitX, numberOfInstances, numberOfFeatures, i));
+			List<? extends Number> fitXColumn = fitXColumns.get(i);
+
+			ClassDictUtil.checkSize(numberOfInstances, fitXColumn);
+
+			data.put(instanceField.getColumn(), fitXColumn);
 		}
 
-		TrainingInstances trainingInstances = new TrainingInstances(instanceFields, PMMLUtil.createInlineTable(data))
+		InlineTable inlineTable = PMMLUtil.createInlineTable(data);
+
+		TrainingInstances trainingInstances = new TrainingInstances(instanceFields, inlineTable)
 			.setTransformed(true);
 
 		ComparisonMeasure comparisonMeasure = encodeComparisonMeasure(estimator);
@@ -20,6 +20,7 @@ package sklearn.neighbors;
 
 import java.util.List;
 
+import numpy.core.PrimitiveArrayUtil;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.Model;
@@ -108,6 +109,11 @@ public class NearestCentroid extends SkLearnClassifier implements HasMetric, Has
 		return getCentroidsShape();
 	}
 
+	@Override
+	public List<List<? extends Number>> getFitXColumns(){
+		return PrimitiveArrayUtil.getColumns(this, "centroids_");
+	}
+
 	@Override
 	public List<?> getId(){
 		return null;
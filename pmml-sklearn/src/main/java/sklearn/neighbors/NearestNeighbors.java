@@ -20,6 +20,7 @@ package sklearn.neighbors;
 
 import java.util.List;
 
+import numpy.core.PrimitiveArrayUtil;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.nearest_neighbor.NearestNeighborModel;
@@ -85,6 +86,11 @@ public class NearestNeighbors extends SkLearnClusterer implements HasMetric, Has
 		return getArrayShape("_fit_X", 2);
 	}
 
+	@Override
+	public List<List<? extends Number>> getFitXColumns(){
+		return PrimitiveArrayUtil.getColumns(this, "_fit_X");
+	}
+
 	@Override
 	public List<?> getId(){
 
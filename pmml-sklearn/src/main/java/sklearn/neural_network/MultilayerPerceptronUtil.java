@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.collect.Iterables;
+import numpy.core.PrimitiveArrayUtil;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.neural_network.NeuralEntity;
@@ -30,7 +31,6 @@ import org.dmg.pmml.neural_network.NeuralLayer;
 import org.dmg.pmml.neural_network.NeuralNetwork;
 import org.dmg.pmml.neural_network.NeuralOutputs;
 import org.dmg.pmml.neural_network.Neuron;
-import org.jpmml.converter.CMatrixUtil;
 import org.jpmml.converter.CategoricalLabel;
 import org.jpmml.converter.Feature;
 import org.jpmml.converter.Label;
@@ -98,21 +98,28 @@ public class MultilayerPerceptronUtil {
 			int rows = shape[0];
 			int columns = shape[1];
 
+			ClassDictUtil.checkSize(rows, entities);
+
 			NeuralLayer neuralLayer = new NeuralLayer();
 
-			List<?> coefMatrix = coef.getArrayContent();
+			// Transposed in a single pass
+			List<List<? extends Number>> coefColumns = PrimitiveArrayUtil.getColumns(coef);
 			List<?> interceptVector = intercept.getArrayContent();
 
+			Neuron[] neurons = new Neuron[columns];
+
 			for(int column = 0; column < columns; column++){
-				List<? extends Number> weights = (List)CMatrixUtil.getColumn(coefMatrix, rows, columns, column);
+				List<? extends Number> weights = coefColumns.get(column);
 				Number bias = (Number)interceptVector.get(column);
 
 				Neuron neuron = NeuralNetworkUtil.createNeuron(entities, weights, bias)
 					.setId(String.valueOf(layer + 1) + "/" + String.valueOf(column + 1));
 
-				neuralLayer.addNeurons(neuron);
+				neurons[column] = neuron;
 			}
 
+			neuralLayer.addNeurons(neurons);
+
 			result.add(neuralLayer);
 
 			entities = neuralLayer.getNeurons();
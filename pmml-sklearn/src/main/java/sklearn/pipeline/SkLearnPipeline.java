@@ -236,6 +236,10 @@ public class SkLearnPipeline extends Composite implements Encodable {
 
 		encoder.setModel(model);
 
+		if(isReleaseContent()){
+			StepUtil.releaseContent(this);
+		}
+
 		return encoder.encodePMML(model);
 	}
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.preprocessing;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.Maps;
+
+/**
+ * <p>
+ * A list of categories, which can be searched by value in constant time, and narrowed down by position in linear time.
+ * </p>
+ *
+ * The value index is built on the first search.
+ * If there are several equal categories, then the first one takes precedence (like in {@link List#indexOf(Object)}).
+ *
+ * Excluding a category does not change the positions of other categories.
+ */
+public class CategoryIndex {
+
+	private List<?> categories = null;
+
+	private Map<Object, Integer> indices = null;
+
+	private BitSet excluded = null;
+
+
+	public CategoryIndex(List<?> categories){
+		setCategories(categories);
+
+		this.excluded = new BitSet(categories.size());
+	}
+
+	public int size(){
+		List<?> categories = getCategories();
+
+		return categories.size();
+	}
+
+	public Object getCategory(int index){
+		List<?> categories = getCategories();
+
+		return categories.get(index);
+	}
+
+	/**
+	 * @return The position of the category, or <code>-1</code>.
+	 */
+	public int indexOf(Object category){
+		Map<Object, Integer> indices = ensureIndices();
+
+		Integer index = indices.get(category);
+		if(index != null){
+			return index;
+		}
+
+		return -1;
+	}
+
+	public boolean contains(Object category){
+		return indexOf(category) > -1;
+	}
+
+	public List<Object> getCategories(int[] indices){
+		List<?> categories = getCategories();
+
+		List<Object> result = new ArrayList<>(indices.length);
+
+		for(int index : indices){
+			result.add(categories.get(index));
+		}
+
+		return result;
+	}
+
+	public void exclude(int index){
+		checkIndex(index);
+
+		this.excluded.set(index);
+	}
+
+	public void exclude(int[] indices){
+
+		for(int index : indices){
+			exclude(index);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Excludes a category by its position among the remaining (ie. not yet excluded) categories.
+	 * </p>
+	 */
+	public void excludeRemaining(int index){
+		BitSet excluded = this.excluded;
+
+		if(index < 0){
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+
+		int position = excluded.nextClearBit(0);
+
+		for(int i = 0; i < index; i++){
+			position = excluded.nextClearBit(position + 1);
+		}
+
+		exclude(position);
+	}
+
+	public List<Object> getRemainingCategories(){
+		List<?> categories = getCategories();
+		BitSet excluded = this.excluded;
+
+		List<Object> result = new ArrayList<>(categories.size() - excluded.cardinality());
+
+		for(int i = excluded.nextClearBit(0); i < categories.size(); i = excluded.nextClearBit(i + 1)){
+			result.add(categories.get(i));
+		}
+
+		return result;
+	}
+
+	public List<?> getCategories(){
+		return this.categories;
+	}
+
+	private void setCategories(List<?> categories){
+		this.categories = Objects.requireNonNull(categories);
+	}
+
+	private void checkIndex(int index){
+		List<?> categories = getCategories();
+
+		if(index < 0 || index >= categories.size()){
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+	}
+
+	private Map<Object, Integer> ensureIndices(){
+
+		if(this.indices == null){
+			List<?> categories = getCategories();
+
+			Map<Object, Integer> indices = Maps.newHashMapWithExpectedSize(categories.size());
+
+			for(int i = 0; i < categories.size(); i++){
+				Object category = categories.get(i);
+
+				indices.putIfAbsent(category, i);
+			}
+
+			this.indices = indices;
+		}
+
+		return this.indices;
+	}
+}
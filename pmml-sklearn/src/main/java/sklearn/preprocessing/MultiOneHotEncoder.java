@@ -19,11 +19,10 @@
 package sklearn.preprocessing;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
 import org.dmg.pmml.DataField;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.InvalidValueTreatmentMethod;
@@ -64,7 +63,7 @@ public class MultiOneHotEncoder extends BaseEncoder {
 
 		for(int i = 0; i < features.size(); i++){
 			Feature feature = features.get(i);
-			List<Object> featureCategories = new ArrayList<>(categories.get(i));
+			List<?> featureCategories = categories.get(i);
 			List<Integer> featureInfrequentIndices = (infrequentEnabled ? infrequentIndices.get(i) : null);
 
 			boolean featureInfrequentEnabled = infrequentEnabled;
@@ -125,14 +124,17 @@ public class MultiOneHotEncoder extends BaseEncoder {
 				if(hasNaNCategory(featureCategories)){
 					ClassDictUtil.checkSize(dropNaNCategory(featureCategories), categoricalFeature.getValues());
 
-					featureCategories = new ArrayList<>(categoricalFeature.getValues());
-					featureCategories.add(Double.NaN);
+					List<Object> values = new ArrayList<>(featureCategories.size());
+					values.addAll(categoricalFeature.getValues());
+					values.add(Double.NaN);
+
+					featureCategories = values;
 				} else
 
 				{
 					ClassDictUtil.checkSize(featureCategories, categoricalFeature.getValues());
 
-					featureCategories = new ArrayList<>(categoricalFeature.getValues());
+					featureCategories = categoricalFeature.getValues();
 				}
 			} else
 
@@ -165,15 +167,19 @@ public class MultiOneHotEncoder extends BaseEncoder {
 				throw new IllegalArgumentException();
 			} // End if
 
+			CategoryIndex categoryIndex = new CategoryIndex(featureCategories);
+
 			if(featureInfrequentEnabled){
 
-				if(infrequentCategory == null || featureCategories.contains(infrequentCategory)){
+				if(infrequentCategory == null || categoryIndex.contains(infrequentCategory)){
 					throw new IllegalArgumentException();
 				}
 
-				List<Object> featureInfrequentCategories = selectValues(featureCategories, featureInfrequentIndices);
+				int[] featureInfrequentPositions = Ints.toArray(featureInfrequentIndices);
 
-				featureCategories.removeAll(featureInfrequentCategories);
+				List<Object> featureInfrequentCategories = categoryIndex.getCategories(featureInfrequentPositions);
+
+				categoryIndex.exclude(featureInfrequentPositions);
 
 				feature = EncoderUtil.encodeRegroupFeature(this, feature, featureInfrequentCategories, infrequentCategory, encoder);
 			} // End if
@@ -182,15 +188,14 @@ public class MultiOneHotEncoder extends BaseEncoder {
 				Integer index = dropIdx.get(i);
 
 				if(index != null){
-					// Unbox to primitive value in order to ensure correct List#remove(int) vs. List#remove(Object) method resolution
-					int intIndex = dropIdx.get(i);
-
-					featureCategories.remove(intIndex);
+					categoryIndex.excludeRemaining(index);
 				}
 			}
 
-			for(int j = 0; j < featureCategories.size(); j++){
-				Object featureCategory = featureCategories.get(j);
+			List<Object> remainingCategories = categoryIndex.getRemainingCategories();
+
+			for(int j = 0; j < remainingCategories.size(); j++){
+				Object featureCategory = remainingCategories.get(j);
 
 				if(ValueUtil.isNaN(featureCategory)){
 					result.add(new MissingValueFeature(encoder, feature));
@@ -268,22 +273,4 @@ public class MultiOneHotEncoder extends BaseEncoder {
 				return null;
 		}
 	}
-
-	static
-	private <E> List<E> selectValues(List<E> values, Collection<Integer> indices){
-
-		if(indices == null || indices.isEmpty()){
-			return Collections.emptyList();
-		}
-
-		List<E> result = new ArrayList<>();
-
-		for(Integer index : indices){
-			E value = values.get(index);
-
-			result.add(value);
-		}
-
-		return result;
-	}
 }
\ No newline at end of file
@@ -23,9 +23,11 @@ import java.util.List;
 import org.dmg.pmml.support_vector_machine.Kernel;
 import org.dmg.pmml.support_vector_machine.SupportVectorMachine;
 import org.dmg.pmml.support_vector_machine.SupportVectorMachineModel;
+import org.dmg.pmml.support_vector_machine.VectorDictionary;
 import org.jpmml.converter.CMatrix;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.support_vector_machine.LibSVMUtil;
+import scipy.sparse.CSRMatrix;
 import sklearn.SkLearnClassifier;
 
 public class LibSVMClassifier extends SkLearnClassifier {
@@ -54,14 +56,26 @@ public class LibSVMClassifier extends SkLearnClassifier {
 		int numberOfFeatures = shape[1];
 
 		List<Integer> support = getSupport();
-		List<? extends Number> supportVectors = getSupportVectors();
 		List<Integer> supportSizes = getSupportSizes();
 		List<? extends Number> dualCoef = getDualCoef();
 		List<? extends Number> intercept = getIntercept();
 
 		Kernel kernel = SupportVectorMachineUtil.createKernel(getKernel(), getDegree(), getGamma(), getCoef0());
 
-		SupportVectorMachineModel supportVectorMachineModel = LibSVMUtil.createClassification(kernel, new CMatrix<>(supportVectors, numberOfVectors, numberOfFeatures), supportSizes, SupportVectorMachineUtil.formatIds(support), intercept, dualCoef, schema);
+		SupportVectorMachineModel supportVectorMachineModel;
+
+		CSRMatrix sparseSupportVectors = getSparseSupportVectors();
+		if(sparseSupportVectors != null){
+			VectorDictionary vectorDictionary = SupportVectorMachineUtil.createVectorDictionary(sparseSupportVectors, SupportVectorMachineUtil.formatIds(support), schema);
+
+			supportVectorMachineModel = SupportVectorMachineUtil.createClassification(kernel, vectorDictionary, supportSizes, intercept, dualCoef, schema);
+		} else
+
+		{
+			List<? extends Number> supportVectors = getSupportVectors();
+
+			supportVectorMachineModel = LibSVMUtil.createClassification(kernel, new CMatrix<>(supportVectors, numberOfVectors, numberOfFeatures), supportSizes, SupportVectorMachineUtil.formatIds(support), intercept, dualCoef, schema);
+		}
 
 		List<SupportVectorMachine> supportVectorMachines = supportVectorMachineModel.getSupportVectorMachines();
 		for(SupportVectorMachine supportVectorMachine : supportVectorMachines){
@@ -101,6 +115,19 @@ public class LibSVMClassifier extends SkLearnClassifier {
 		return getNumberArray("support_vectors_");
 	}
 
+	/**
+	 * @return The support vectors as a SciPy CSR matrix, or <code>null</code> if the support vectors are a dense Numpy array.
+	 */
+	public CSRMatrix getSparseSupportVectors(){
+		Object value = get("support_vectors_");
+
+		if(value instanceof CSRMatrix){
+			return (CSRMatrix)value;
+		}
+
+		return null;
+	}
+
 	public int[] getSupportVectorsShape(){
 		return getArrayShape("support_vectors_", 2);
 	}
@@ -23,9 +23,11 @@ import java.util.List;
 import com.google.common.collect.Iterables;
 import org.dmg.pmml.support_vector_machine.Kernel;
 import org.dmg.pmml.support_vector_machine.SupportVectorMachineModel;
+import org.dmg.pmml.support_vector_machine.VectorDictionary;
 import org.jpmml.converter.CMatrix;
 import org.jpmml.converter.Schema;
 import org.jpmml.converter.support_vector_machine.LibSVMUtil;
+import scipy.sparse.CSRMatrix;
 import sklearn.SkLearnRegressor;
 
 public class LibSVMRegressor extends SkLearnRegressor {
@@ -49,12 +51,20 @@ public class LibSVMRegressor extends SkLearnRegressor {
 		int numberOfFeatures = shape[1];
 
 		List<Integer> support = getSupport();
-		List<? extends Number> supportVectors = getSupportVectors();
 		List<? extends Number> dualCoef = getDualCoef();
 		List<? extends Number> intercept = getIntercept();
 
 		Kernel kernel = SupportVectorMachineUtil.createKernel(getKernel(), getDegree(), getGamma(), getCoef0());
 
+		CSRMatrix sparseSupportVectors = getSparseSupportVectors();
+		if(sparseSupportVectors != null){
+			VectorDictionary vectorDictionary = SupportVectorMachineUtil.createVectorDictionary(sparseSupportVectors, SupportVectorMachineUtil.formatIds(support), schema);
+
+			return SupportVectorMachineUtil.createRegression(kernel, vectorDictionary, Iterables.getOnlyElement(intercept), dualCoef, schema);
+		}
+
+		List<? extends Number> supportVectors = getSupportVectors();
+
 		return LibSVMUtil.createRegression(kernel, new CMatrix<>(supportVectors, numberOfVectors, numberOfFeatures), SupportVectorMachineUtil.formatIds(support), Iterables.getOnlyElement(intercept), dualCoef, schema);
 	}
 
@@ -82,6 +92,19 @@ public class LibSVMRegressor extends SkLearnRegressor {
 		return getNumberArray("support_vectors_");
 	}
 
+	/**
+	 * @return The support vectors as a SciPy CSR matrix, or <code>null</code> if the support vectors are a dense Numpy array.
+	 */
+	public CSRMatrix getSparseSupportVectors(){
+		Object value = get("support_vectors_");
+
+		if(value instanceof CSRMatrix){
+			return (CSRMatrix)value;
+		}
+
+		return null;
+	}
+
 	public int[] getSupportVectorsShape(){
 		return getArrayShape("support_vectors_", 2);
 	}
@@ -18,15 +18,39 @@
  */
 package sklearn.svm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import org.dmg.pmml.MiningFunction;
+import org.dmg.pmml.RealSparseArray;
+import org.dmg.pmml.regression.CategoricalPredictor;
 import org.dmg.pmml.support_vector_machine.Kernel;
 import org.dmg.pmml.support_vector_machine.LinearKernel;
 import org.dmg.pmml.support_vector_machine.PolynomialKernel;
 import org.dmg.pmml.support_vector_machine.RadialBasisKernel;
 import org.dmg.pmml.support_vector_machine.SigmoidKernel;
+import org.dmg.pmml.support_vector_machine.SupportVectorMachine;
+import org.dmg.pmml.support_vector_machine.SupportVectorMachineModel;
+import org.dmg.pmml.support_vector_machine.VectorDictionary;
+import org.dmg.pmml.support_vector_machine.VectorFields;
+import org.dmg.pmml.support_vector_machine.VectorInstance;
+import org.jpmml.converter.BinaryFeature;
+import org.jpmml.converter.CMatrixUtil;
+import org.jpmml.converter.CategoricalLabel;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.ContinuousLabel;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.ModelUtil;
+import org.jpmml.converter.Schema;
+import org.jpmml.converter.SchemaUtil;
+import org.jpmml.converter.ValueUtil;
+import org.jpmml.converter.support_vector_machine.LibSVMUtil;
+import org.jpmml.python.ClassDictUtil;
+import scipy.sparse.CSRMatrix;
 
 public class SupportVectorMachineUtil {
 
@@ -68,4 +92,197 @@ public class SupportVectorMachineUtil {
 				throw new IllegalArgumentException(kernel);
 		}
 	}
+
+	/**
+	 * @see LibSVMUtil#createRegression(Kernel, org.jpmml.converter.Matrix, List, Number, List, Schema)
+	 */
+	static
+	public SupportVectorMachineModel createRegression(Kernel kernel, VectorDictionary vectorDictionary, Number rho, List<? extends Number> coefs, Schema schema){
+		ContinuousLabel continuousLabel = (ContinuousLabel)schema.getLabel();
+
+		List<VectorInstance> vectorInstances = vectorDictionary.getVectorInstances();
+
+		List<SupportVectorMachine> supportVectorMachines = new ArrayList<>();
+		supportVectorMachines.add(LibSVMUtil.createSupportVectorMachine(vectorInstances, rho, coefs));
+
+		SupportVectorMachineModel supportVectorMachineModel = new SupportVectorMachineModel(MiningFunction.REGRESSION, ModelUtil.createMiningSchema(continuousLabel), kernel, vectorDictionary, supportVectorMachines);
+
+		return supportVectorMachineModel;
+	}
+
+	/**
+	 * @see LibSVMUtil#createClassification(Kernel, org.jpmml.converter.Matrix, List, List, List, List, Schema)
+	 */
+	static
+	public SupportVectorMachineModel createClassification(Kernel kernel, VectorDictionary vectorDictionary, List<Integer> nSv, List<? extends Number> rho, List<? extends Number> coefs, Schema schema){
+		CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
+
+		List<VectorInstance> vectorInstances = vectorDictionary.getVectorInstances();
+
+		int numberOfVectors = vectorInstances.size();
+
+		int[] offsets = new int[nSv.size() + 1];
+
+		for(int i = 0; i < nSv.size(); i++){
+			offsets[i + 1] = offsets[i] + nSv.get(i);
+		}
+
+		List<SupportVectorMachine> supportVectorMachines = new ArrayList<>();
+
+		for(int first = 0, size = categoricalLabel.size(), i = 0; first < size; first++){
+
+			for(int second = first + 1; second < size; second++, i++){
+				List<VectorInstance> svmVectorInstances = new ArrayList<>();
+				svmVectorInstances.addAll(slice(vectorInstances, offsets, first));
+				svmVectorInstances.addAll(slice(vectorInstances, offsets, second));
+
+				List<Number> svmCoefs = new ArrayList<>();
+				svmCoefs.addAll(slice(CMatrixUtil.getRow(coefs, size - 1, numberOfVectors, second - 1), offsets, first));
+				svmCoefs.addAll(slice(CMatrixUtil.getRow(coefs, size - 1, numberOfVectors, first), offsets, second));
+
+				SupportVectorMachine supportVectorMachine = LibSVMUtil.createSupportVectorMachine(svmVectorInstances, rho.get(i), svmCoefs)
+					.setTargetCategory(categoricalLabel.getValue(first))
+					.setAlternateTargetCategory(categoricalLabel.getValue(second));
+
+				supportVectorMachines.add(supportVectorMachine);
+			}
+		}
+
+		SupportVectorMachineModel supportVectorMachineModel = new SupportVectorMachineModel(MiningFunction.CLASSIFICATION, ModelUtil.createMiningSchema(categoricalLabel), kernel, vectorDictionary, supportVectorMachines)
+			.setClassificationMethod(SupportVectorMachineModel.ClassificationMethod.ONE_AGAINST_ONE);
+
+		return supportVectorMachineModel;
+	}
+
+	/**
+	 * <p>
+	 * Creates a vector dictionary from a SciPy CSR matrix of support vectors (ie. a model that was fitted on sparse input).
+	 * </p>
+	 *
+	 * The CSR matrix is not densified.
+	 * Vector fields are limited to features that have at least one non-zero value.
+	 * Vector instances are encoded as <code>REAL-SparseArray</code> elements, which leave out zero values.
+	 *
+	 * @see LibSVMUtil#createVectorDictionary(org.jpmml.converter.Matrix, List, Schema)
+	 */
+	static
+	public VectorDictionary createVectorDictionary(CSRMatrix sv, List<String> ids, Schema schema){
+		int[] shape = sv.getArrayShape();
+
+		if(shape.length != 2){
+			throw new IllegalArgumentException("Expected 2-dimensional matrix, got " + shape.length + "-dimensional (" + Arrays.toString(shape) + ") matrix");
+		}
+
+		int numberOfVectors = shape[0];
+		int numberOfFeatures = shape[1];
+
+		List<? extends Number> data = (List)sv.getData();
+		List<Integer> indices = sv.getIndices();
+		List<Integer> indPtr = sv.getIndPtr();
+
+		List<? extends Feature> features = schema.getFeatures();
+
+		SchemaUtil.checkSize(numberOfFeatures, features);
+
+		ClassDictUtil.checkSize(numberOfVectors, ids);
+		ClassDictUtil.checkSize(numberOfVectors + 1, indPtr);
+		ClassDictUtil.checkSize(data, indices);
+
+		BitSet featureMask = new BitSet(numberOfFeatures);
+
+		for(int i = 0; i < data.size(); i++){
+			Number value = data.get(i);
+			int index = indices.get(i);
+
+			if(index < 0 || index >= numberOfFeatures){
+				throw new IllegalArgumentException("Column index " + index + " is out of range [0, " + numberOfFeatures + ")");
+			} // End if
+
+			if(value.doubleValue() != 0d){
+				featureMask.set(index);
+			}
+		}
+
+		// Maps feature indices to 1-based vector field indices
+		int[] positions = new int[numberOfFeatures];
+
+		VectorFields vectorFields = new VectorFields();
+
+		for(int i = featureMask.nextSetBit(0), position = 1; i > -1; i = featureMask.nextSetBit(i + 1), position++){
+			Feature feature = features.get(i);
+
+			if(feature instanceof BinaryFeature){
+				BinaryFeature binaryFeature = (BinaryFeature)feature;
+
+				CategoricalPredictor categoricalPredictor = new CategoricalPredictor()
+					.setField(binaryFeature.getName())
+					.setValue(binaryFeature.getValue())
+					.setCoefficient(1d);
+
+				vectorFields.addContent(categoricalPredictor);
+			} else
+
+			{
+				ContinuousFeature continuousFeature = feature.toContinuousFeature();
+
+				vectorFields.addContent(continuousFeature.ref());
+			}
+
+			positions[i] = position;
+		}
+
+		VectorDictionary vectorDictionary = new VectorDictionary(vectorFields);
+
+		for(int row = 0; row < numberOfVectors; row++){
+			int begin = indPtr.get(row);
+			int end = indPtr.get(row + 1);
+
+			Integer[] order = new Integer[end - begin];
+
+			for(int i = 0; i < order.length; i++){
+				order[i] = begin + i;
+			}
+
+			// SciPy does not guarantee that column indices are sorted
+			Arrays.sort(order, (left, right) -> Integer.compare(indices.get(left), indices.get(right)));
+
+			RealSparseArray sparseArray = new RealSparseArray()
+				.setN(featureMask.cardinality())
+				.setDefaultValue(0d);
+
+			List<Integer> sparseIndices = sparseArray.getIndices();
+			List<Double> sparseEntries = sparseArray.getEntries();
+
+			int prevIndex = -1;
+
+			for(Integer i : order){
+				Number value = data.get(i);
+				int index = indices.get(i);
+
+				if(index == prevIndex){
+					throw new IllegalArgumentException("Column index " + index + " is not unique");
+				}
+
+				prevIndex = index;
+
+				if(value.doubleValue() == 0d){
+					continue;
+				}
+
+				sparseIndices.add(positions[index]);
+				sparseEntries.add(ValueUtil.asDouble(value));
+			}
+
+			VectorInstance vectorInstance = new VectorInstance(ids.get(row), sparseArray, null);
+
+			vectorDictionary.addVectorInstances(vectorInstance);
+		}
+
+		return vectorDictionary;
+	}
+
+	static
+	private <E> List<E> slice(List<E> list, int[] offsets, int index){
+		return list.subList(offsets[index], offsets[index + 1]);
+	}
 }
\ No newline at end of file
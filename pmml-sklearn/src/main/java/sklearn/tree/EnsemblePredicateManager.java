@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.PredicateManager;
+
+/**
+ * <p>
+ * A predicate manager that is shared between all member trees of a tree ensemble,
+ * including the member trees of different target columns of a multi-class ensemble.
+ * </p>
+ *
+ * <p>
+ * Simple predicates are looked up by field name, operator and value before they are created.
+ * A repeated split does not allocate a throwaway predicate object, and does not compute its reflective hash code.
+ * </p>
+ *
+ * The interned predicates are identical to the ones that the base class would have interned.
+ * This class is thread-safe.
+ */
+public class EnsemblePredicateManager extends PredicateManager {
+
+	private ConcurrentMap<String, ConcurrentMap<SimplePredicate.Operator, ConcurrentMap<Object, Predicate>>> simplePredicates = new ConcurrentHashMap<>();
+
+
+	public EnsemblePredicateManager(){
+	}
+
+	@Override
+	public Predicate createSimplePredicate(Feature feature, SimplePredicate.Operator operator, Object value){
+		ConcurrentMap<SimplePredicate.Operator, ConcurrentMap<Object, Predicate>> fieldPredicates = this.simplePredicates.get(feature.getName());
+
+		if(fieldPredicates == null){
+			fieldPredicates = this.simplePredicates.computeIfAbsent(feature.getName(), name -> new ConcurrentHashMap<>());
+		}
+
+		ConcurrentMap<Object, Predicate> operatorPredicates = fieldPredicates.get(operator);
+
+		if(operatorPredicates == null){
+			operatorPredicates = fieldPredicates.computeIfAbsent(operator, key -> new ConcurrentHashMap<>());
+		}
+
+		Object key = (value != null ? value : EnsemblePredicateManager.NO_VALUE);
+
+		Predicate predicate = operatorPredicates.get(key);
+
+		if(predicate == null){
+			predicate = super.createSimplePredicate(feature, operator, value);
+
+			Predicate prevPredicate = operatorPredicates.putIfAbsent(key, predicate);
+			if(prevPredicate != null){
+				predicate = prevPredicate;
+			}
+		}
+
+		return predicate;
+	}
+
+	private static final Object NO_VALUE = new Object();
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import java.util.Set;
+
+import org.jpmml.converter.ThresholdFeature;
+
+/**
+ * <p>
+ * A {@link ThresholdFeature} that can answer threshold splits without testing every value.
+ * </p>
+ *
+ * A value goes left if its mapped value, as a 32-bit float, is less than or equal to the threshold,
+ * and goes right if its mapped value is greater than the threshold.
+ * Values that are mapped to NaN go neither left nor right.
+ *
+ * The returned values must be the same, and in the same order, as the values returned by the {@link ThresholdFeature#getValues(java.util.function.Predicate)} method.
+ */
+public interface HasSplitValues {
+
+	Set<?> getLeftValues(double threshold);
+
+	Set<?> getRightValues(double threshold);
+}
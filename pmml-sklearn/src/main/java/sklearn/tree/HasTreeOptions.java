@@ -20,6 +20,7 @@ package sklearn.tree;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.dmg.pmml.OutputField;
 import org.dmg.pmml.SimplePredicate;
@@ -65,6 +66,11 @@ public interface HasTreeOptions extends HasSkLearnOptions, HasNativeConfiguratio
 	 */
 	String OPTION_NUMERIC = "numeric";
 
+	/**
+	 * @see ForkJoinPool
+	 */
+	String OPTION_PARALLELISM = "parallelism";
+
 	/**
 	 * @see TreeModelPruner
 	 */
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.Node;
+import org.jpmml.converter.CategoryManager;
+
+/**
+ * <p>
+ * An array-based binary tree encoder.
+ * </p>
+ *
+ * The tree is traversed in pre-order using an explicit stack (instead of the call stack),
+ * so that the encoding of very deep trees does not need any extra thread stack space.
+ * The pre-order guarantees that all encoder side effects (eg. the creation of derived fields)
+ * take place in the same order as during a recursive traversal.
+ */
+abstract
+public class NodeEncoder {
+
+	private Split split = new Split();
+
+
+	abstract
+	public boolean isLeaf(int index);
+
+	/**
+	 * @return A leaf node.
+	 */
+	abstract
+	public Node encodeLeaf(int index, Predicate predicate);
+
+	/**
+	 * <p>
+	 * Encodes a binary split.
+	 * </p>
+	 *
+	 * @param split The split to be initialized with the left and right child descriptions.
+	 *
+	 * @return A branch node. The encoder will append child nodes to it, first left and then right.
+	 */
+	abstract
+	public Node encodeBranch(int index, Predicate predicate, CategoryManager categoryManager, Split split);
+
+	public Node encode(int index){
+		Deque<Frame> frames = new ArrayDeque<>();
+
+		frames.push(new Frame(null, index, True.INSTANCE, new CategoryManager()));
+
+		Node result = null;
+
+		while(!frames.isEmpty()){
+			Frame frame = frames.pop();
+
+			Node node;
+
+			if(isLeaf(frame.index)){
+				node = encodeLeaf(frame.index, frame.predicate);
+			} else
+
+			{
+				Split split = this.split;
+
+				split.clear();
+
+				node = encodeBranch(frame.index, frame.predicate, frame.categoryManager, split);
+
+				split.checkInitialized();
+
+				frames.push(new Frame(node, split.rightIndex, split.rightPredicate, split.rightCategoryManager));
+				frames.push(new Frame(node, split.leftIndex, split.leftPredicate, split.leftCategoryManager));
+			}
+
+			Node parent = frame.parent;
+
+			if(parent != null){
+				parent.addNodes(node);
+			} else
+
+			{
+				result = node;
+			}
+		}
+
+		return result;
+	}
+
+	static
+	public class Split {
+
+		private int leftIndex = -1;
+
+		private Predicate leftPredicate = null;
+
+		private CategoryManager leftCategoryManager = null;
+
+		private int rightIndex = -1;
+
+		private Predicate rightPredicate = null;
+
+		private CategoryManager rightCategoryManager = null;
+
+
+		private Split(){
+		}
+
+		public Split setLeft(int index, Predicate predicate, CategoryManager categoryManager){
+			this.leftIndex = index;
+			this.leftPredicate = predicate;
+			this.leftCategoryManager = categoryManager;
+
+			return this;
+		}
+
+		public Split setRight(int index, Predicate predicate, CategoryManager categoryManager){
+			this.rightIndex = index;
+			this.rightPredicate = predicate;
+			this.rightCategoryManager = categoryManager;
+
+			return this;
+		}
+
+		private void clear(){
+			setLeft(-1, null, null);
+			setRight(-1, null, null);
+		}
+
+		private void checkInitialized(){
+
+			if(this.leftPredicate == null || this.leftCategoryManager == null){
+				throw new IllegalStateException("Left child is not defined");
+			} // End if
+
+			if(this.rightPredicate == null || this.rightCategoryManager == null){
+				throw new IllegalStateException("Right child is not defined");
+			}
+		}
+	}
+
+	static
+	private class Frame {
+
+		private Node parent = null;
+
+		private int index = -1;
+
+		private Predicate predicate = null;
+
+		private CategoryManager categoryManager = null;
+
+
+		private Frame(Node parent, int index, Predicate predicate, CategoryManager categoryManager){
+			this.parent = parent;
+			this.index = index;
+			this.predicate = predicate;
+			this.categoryManager = categoryManager;
+		}
+	}
+}
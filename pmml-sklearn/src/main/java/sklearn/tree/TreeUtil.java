@@ -19,24 +19,23 @@
 package sklearn.tree;
 
 import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.common.primitives.Doubles;
-import numpy.core.ScalarUtil;
 import org.dmg.pmml.DataType;
-import org.dmg.pmml.HasExtensions;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.Model;
 import org.dmg.pmml.Predicate;
-import org.dmg.pmml.ScoreDistribution;
 import org.dmg.pmml.SimplePredicate;
-import org.dmg.pmml.True;
 import org.dmg.pmml.Visitor;
 import org.dmg.pmml.VisitorAction;
 import org.dmg.pmml.mining.MiningModel;
@@ -46,8 +45,6 @@ import org.dmg.pmml.tree.BranchNode;
 import org.dmg.pmml.tree.ClassifierNode;
 import org.dmg.pmml.tree.LeafNode;
 import org.dmg.pmml.tree.Node;
-import org.dmg.pmml.tree.NodeTransformer;
-import org.dmg.pmml.tree.SimplifyingNodeTransformer;
 import org.dmg.pmml.tree.TreeModel;
 import org.jpmml.converter.BinaryFeature;
 import org.jpmml.converter.CategoricalLabel;
@@ -61,14 +58,15 @@ import org.jpmml.converter.ScoreDistributionManager;
 import org.jpmml.converter.ThresholdFeature;
 import org.jpmml.converter.ThresholdFeatureUtil;
 import org.jpmml.converter.ValueUtil;
-import org.jpmml.converter.visitors.AbstractExtender;
 import org.jpmml.model.UnsupportedElementException;
 import org.jpmml.model.visitors.AbstractVisitor;
 import org.jpmml.python.ClassDictUtil;
+import org.jpmml.sklearn.SkLearnEncoder;
 import sklearn.Estimator;
 import sklearn.HasEstimatorEnsemble;
 import sklearn.tree.visitors.TreeModelCompactor;
 import sklearn.tree.visitors.TreeModelFlattener;
+import sklearn.tree.visitors.TreeModelNodeTransformer;
 import sklearn.tree.visitors.TreeModelPruner;
 
 public class TreeUtil {
@@ -119,122 +117,78 @@ public class TreeUtil {
 
 		if((Boolean.TRUE).equals(flat)){
 			visitors.add(new TreeModelFlattener());
-		} // End if
-
-		if(nodeExtensions != null){
-			Collection<? extends Map.Entry<String, Map<Integer, ?>>> entries = nodeExtensions.entrySet();
-
-			for(Map.Entry<String, Map<Integer, ?>> entry : entries){
-				String name = entry.getKey();
-				Map<Integer, ?> values = entry.getValue();
-
-				Visitor nodeExtender = new AbstractExtender(name){
-
-					private NodeTransformer nodeTransformer = SimplifyingNodeTransformer.INSTANCE;
-
-
-					@Override
-					public VisitorAction visit(TreeModel treeModel){
-						treeModel.setNode(ensureExtensibility(treeModel.getNode()));
-
-						return super.visit(treeModel);
-					}
-
-					@Override
-					public VisitorAction visit(Node node){
-
-						if(node.hasNodes()){
-							List<Node> children = node.getNodes();
-
-							for(ListIterator<Node> childIt = children.listIterator(); childIt.hasNext(); ){
-								childIt.set(ensureExtensibility(childIt.next()));
-							}
-						}
+		}
 
-						Object value = getValue(node);
-						if(value != null){
-							value = ScalarUtil.decode(value);
+		// The compactor clears node identifiers by itself
+		boolean clearId = (Boolean.FALSE).equals(nodeId) && !(Boolean.TRUE).equals(compact);
+		boolean clearScore = (Boolean.FALSE).equals(nodeScore);
 
-							addExtension((Node & HasExtensions)node, ValueUtil.asString(value));
-						}
+		TreeModelNodeTransformer nodeTransformer = new TreeModelNodeTransformer(nodeExtensions, clearScore, clearId);
+		if(!nodeTransformer.isEmpty()){
+			visitors.add(nodeTransformer);
+		}
 
-						return super.visit(node);
-					}
+		List<TreeModel> treeModels = getTreeModels(model);
 
-					private Node ensureExtensibility(Node node){
+		// Apply all visitors to one tree model before moving on to the next one, while its nodes are still cached
+		for(TreeModel treeModel : treeModels){
 
-						if(node instanceof HasExtensions){
-							return node;
-						}
+			for(Visitor visitor : visitors){
+				visitor.applyTo(treeModel);
+			}
+		}
 
-						Object value = getValue(node);
-						if(value != null){
-							return this.nodeTransformer.toComplexNode(node);
-						}
+		return model;
+	}
 
-						return node;
-					}
+	static
+	private List<TreeModel> getTreeModels(Model model){
+		List<TreeModel> result = new ArrayList<>();
 
-					private Object getValue(Node node){
-						Integer id = ValueUtil.asInteger((Number)node.getId());
+		Visitor visitor = new AbstractVisitor(){
 
-						return values.get(id);
-					}
-				};
+			@Override
+			public VisitorAction visit(TreeModel treeModel){
+				result.add(treeModel);
 
-				visitors.add(nodeExtender);
+				return VisitorAction.SKIP;
 			}
-		} // End if
-
-		if((Boolean.FALSE).equals(nodeId)){
-			Visitor nodeIdCleaner = new AbstractVisitor(){
+		};
+		visitor.applyTo(model);
 
-				@Override
-				public VisitorAction visit(Node node){
-					node.setId(null);
+		return result;
+	}
 
-					return super.visit(node);
-				}
-			};
+	/**
+	 * @return The parallelism, or <code>null</code>.
+	 *
+	 * @see HasTreeOptions#OPTION_PARALLELISM
+	 */
+	static
+	public Integer getParallelism(Estimator estimator){
+		Object parallelism = estimator.getOption(HasTreeOptions.OPTION_PARALLELISM, null);
 
-			visitors.add(nodeIdCleaner);
+		if(parallelism == null){
+			return null;
 		} // End if
 
-		if((Boolean.FALSE).equals(nodeScore)){
-			Visitor nodeScoreCleaner = new AbstractVisitor(){
-
-				@Override
-				public VisitorAction visit(Node node){
-
-					if(node.hasNodes()){
-						node.setScore(null);
-
-						if(node.hasScoreDistributions()){
-							List<ScoreDistribution> scoreDistributions = node.getScoreDistributions();
-
-							scoreDistributions.clear();
-						}
-					}
-
-					return super.visit(node);
-				}
-			};
-
-			visitors.add(nodeScoreCleaner);
+		if(!(parallelism instanceof Number)){
+			throw new IllegalArgumentException("Expected an integer parallelism, got " + parallelism);
 		}
 
-		for(Visitor visitor : visitors){
-			visitor.applyTo(model);
+		Integer result = ValueUtil.asInteger((Number)parallelism);
+		if(result < 1){
+			throw new IllegalArgumentException("Expected a positive parallelism, got " + result);
 		}
 
-		return model;
+		return result;
 	}
 
 	static
 	public <E extends Estimator & HasEstimatorEnsemble<T>, T extends Estimator & HasTree> List<TreeModel> encodeTreeModelEnsemble(E estimator, MiningFunction miningFunction, Schema schema){
 		Boolean numeric = (Boolean)estimator.getOption(HasTreeOptions.OPTION_NUMERIC, Boolean.TRUE);
 
-		PredicateManager predicateManager = new PredicateManager();
+		PredicateManager predicateManager = new EnsemblePredicateManager();
 		ScoreDistributionManager scoreDistributionManager = new ScoreDistributionManager();
 
 		return encodeTreeModelEnsemble(estimator, miningFunction, numeric, predicateManager, scoreDistributionManager, schema);
@@ -244,8 +198,14 @@ public class TreeUtil {
 	public <E extends Estimator & HasEstimatorEnsemble<T>, T extends Estimator & HasTree> List<TreeModel> encodeTreeModelEnsemble(E estimator, MiningFunction miningFunction, Boolean numeric, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
 		List<? extends T> estimators = estimator.getEstimators();
 
+		Integer parallelism = getParallelism(estimator);
+
 		Schema segmentSchema = schema.toAnonymousSchema();
 
+		if(parallelism != null && parallelism > 1){
+			return encodeTreeModelEnsemble(estimators, miningFunction, numeric, predicateManager, scoreDistributionManager, segmentSchema, parallelism);
+		}
+
 		Function<T, TreeModel> function = new Function<T, TreeModel>(){
 
 			@Override
@@ -270,6 +230,73 @@ public class TreeUtil {
 			.collect(Collectors.toList());
 	}
 
+	/**
+	 * <p>
+	 * Encodes member trees concurrently on a fork-join pool.
+	 * </p>
+	 *
+	 * <p>
+	 * The pool is obtained from the encoder, so that all model ensembles of a conversion share it.
+	 * </p>
+	 *
+	 * All encoder state (derived fields, feature importances) is created in the calling thread,
+	 * in the same order as during sequential encoding.
+	 * The worker threads only build the node graphs, which interact with the shared predicate and score distribution caches.
+	 */
+	static
+	private <T extends Estimator & HasTree> List<TreeModel> encodeTreeModelEnsemble(List<? extends T> estimators, MiningFunction miningFunction, boolean numeric, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema, int parallelism){
+		List<Schema> treeModelSchemas = new ArrayList<>();
+		List<Schema> featureImportanceSchemas = new ArrayList<>();
+
+		for(T estimator : estimators){
+			Schema treeModelSchema = toTreeModelSchema(estimator.getDataType(), numeric, schema);
+
+			ensureContinuousFeatures(estimator.getTree(), numeric, treeModelSchema);
+
+			Schema featureImportanceSchema = null;
+
+			if(estimator.hasFeatureImportances()){
+				featureImportanceSchema = toTreeModelFeatureImportanceSchema(numeric, treeModelSchema);
+			}
+
+			treeModelSchemas.add(treeModelSchema);
+			featureImportanceSchemas.add(featureImportanceSchema);
+		}
+
+		SkLearnEncoder encoder = (SkLearnEncoder)schema.getEncoder();
+
+		ForkJoinPool forkJoinPool = encoder.getForkJoinPool(parallelism);
+
+		List<ForkJoinTask<TreeModel>> tasks = new ArrayList<>();
+
+		for(int i = 0; i < estimators.size(); i++){
+			T estimator = estimators.get(i);
+			Schema treeModelSchema = treeModelSchemas.get(i);
+
+			ForkJoinTask<TreeModel> task = forkJoinPool.submit(() -> TreeUtil.encodeTreeModel(estimator, miningFunction, numeric, predicateManager, scoreDistributionManager, treeModelSchema));
+
+			tasks.add(task);
+		}
+
+		List<TreeModel> result = new ArrayList<>();
+
+		for(ForkJoinTask<TreeModel> task : tasks){
+			result.add(task.join());
+		}
+
+		for(int i = 0; i < estimators.size(); i++){
+			T estimator = estimators.get(i);
+			Schema featureImportanceSchema = featureImportanceSchemas.get(i);
+
+			// XXX
+			if(featureImportanceSchema != null){
+				estimator.addFeatureImportances(result.get(i), featureImportanceSchema);
+			}
+		}
+
+		return result;
+	}
+
 	static
 	public <E extends Estimator & HasTree> TreeModel encodeTreeModel(E estimator, MiningFunction miningFunction, Schema schema){
 		Boolean numeric = (Boolean)estimator.getOption(HasTreeOptions.OPTION_NUMERIC, Boolean.TRUE);
@@ -284,174 +311,182 @@ public class TreeUtil {
 	public <E extends Estimator & HasTree> TreeModel encodeTreeModel(E estimator, MiningFunction miningFunction, Boolean numeric, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
 		Tree tree = estimator.getTree();
 
+		TreeModel treeModel = encodeTreeModel(tree, miningFunction, numeric, predicateManager, scoreDistributionManager, schema);
+
+		ClassDictUtil.clearContent(tree);
+
+		return treeModel;
+	}
+
+	static
+	private TreeModel encodeTreeModel(Tree tree, MiningFunction miningFunction, boolean numeric, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
 		int[] leftChildren = tree.getChildrenLeft();
 		int[] rightChildren = tree.getChildrenRight();
 		int[] features = tree.getFeature();
 		double[] thresholds = tree.getThreshold();
 		double[] values = tree.getValues();
 
-		Node root = encodeNode(0, True.INSTANCE, miningFunction, numeric, leftChildren, rightChildren, features, thresholds, values, new CategoryManager(), predicateManager, scoreDistributionManager, schema);
-
-		TreeModel treeModel = new TreeModel(miningFunction, ModelUtil.createMiningSchema(schema.getLabel()), root)
-			.setSplitCharacteristic(TreeModel.SplitCharacteristic.BINARY_SPLIT);
+		CategoricalLabel categoricalLabel = (miningFunction == MiningFunction.CLASSIFICATION) ? (CategoricalLabel)schema.getLabel() : null;
 
-		ClassDictUtil.clearContent(tree);
+		NodeEncoder nodeEncoder = new NodeEncoder(){
 
-		return treeModel;
-	}
+			@Override
+			public boolean isLeaf(int index){
+				return (features[index] < 0);
+			}
 
-	static
-	private Node encodeNode(int index, Predicate predicate, MiningFunction miningFunction, boolean numeric, int[] leftChildren, int[] rightChildren, int[] features, double[] thresholds, double[] values, CategoryManager categoryManager, PredicateManager predicateManager, ScoreDistributionManager scoreDistributionManager, Schema schema){
-		Integer id = Integer.valueOf(index);
+			@Override
+			public Node encodeBranch(int index, Predicate predicate, CategoryManager categoryManager, Split split){
+				Integer id = Integer.valueOf(index);
 
-		int featureIndex = features[index];
+				Feature feature = schema.getFeature(features[index]);
 
-		// A non-leaf (binary split) node
-		if(featureIndex >= 0){
-			Feature feature = schema.getFeature(featureIndex);
+				double threshold = thresholds[index];
 
-			double threshold = thresholds[index];
+				CategoryManager leftCategoryManager = categoryManager;
+				CategoryManager rightCategoryManager = categoryManager;
 
-			CategoryManager leftCategoryManager = categoryManager;
-			CategoryManager rightCategoryManager = categoryManager;
+				Predicate leftPredicate;
+				Predicate rightPredicate;
 
-			Predicate leftPredicate;
-			Predicate rightPredicate;
+				if(feature instanceof BinaryFeature){
+					BinaryFeature binaryFeature = (BinaryFeature)feature;
 
-			if(feature instanceof BinaryFeature){
-				BinaryFeature binaryFeature = (BinaryFeature)feature;
+					if(threshold < 0 || threshold > 1){
+						throw new IllegalArgumentException();
+					}
 
-				if(threshold < 0 || threshold > 1){
-					throw new IllegalArgumentException();
-				}
+					Object value = binaryFeature.getValue();
 
-				Object value = binaryFeature.getValue();
+					leftPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.NOT_EQUAL, value);
+					rightPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.EQUAL, value);
+				} else
 
-				leftPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.NOT_EQUAL, value);
-				rightPredicate = predicateManager.createSimplePredicate(binaryFeature, SimplePredicate.Operator.EQUAL, value);
-			} else
+				if(feature instanceof ThresholdFeature && !numeric){
+					ThresholdFeature thresholdFeature = (ThresholdFeature)feature;
 
-			if(feature instanceof ThresholdFeature && !numeric){
-				ThresholdFeature thresholdFeature = (ThresholdFeature)feature;
+					String name = thresholdFeature.getName();
 
-				String name = thresholdFeature.getName();
+					Object missingValue = thresholdFeature.getMissingValue();
 
-				Object missingValue = thresholdFeature.getMissingValue();
+					java.util.function.Predicate<Object> valueFilter = categoryManager.getValueFilter(name);
 
-				java.util.function.Predicate<Object> valueFilter = categoryManager.getValueFilter(name);
+					if(!ValueUtil.isNaN(missingValue)){
+						valueFilter = valueFilter.and(value -> !ValueUtil.isNaN(value));
+					}
 
-				if(!ValueUtil.isNaN(missingValue)){
-					valueFilter = valueFilter.and(value -> !ValueUtil.isNaN(value));
-				}
+					List<Object> leftValues = getSplitValues(thresholdFeature, threshold, true).stream()
+						.filter(valueFilter)
+						.collect(Collectors.toList());
 
-				List<Object> leftValues = thresholdFeature.getValues((Number value) -> (toSplitValue(value) <= threshold)).stream()
-					.filter(valueFilter)
-					.collect(Collectors.toList());
+					List<Object> rightValues = getSplitValues(thresholdFeature, threshold, false).stream()
+						.filter(valueFilter)
+						.collect(Collectors.toList());
 
-				List<Object> rightValues = thresholdFeature.getValues((Number value) -> (toSplitValue(value)) > threshold).stream()
-					.filter(valueFilter)
-					.collect(Collectors.toList());
+					leftCategoryManager = leftCategoryManager.fork(name, leftValues);
+					rightCategoryManager = rightCategoryManager.fork(name, rightValues);
 
-				leftCategoryManager = leftCategoryManager.fork(name, leftValues);
-				rightCategoryManager = rightCategoryManager.fork(name, rightValues);
+					leftPredicate = ThresholdFeatureUtil.createPredicate(thresholdFeature, leftValues, missingValue, predicateManager);
+					rightPredicate = ThresholdFeatureUtil.createPredicate(thresholdFeature, rightValues, missingValue, predicateManager);
+				} else
 
-				leftPredicate = ThresholdFeatureUtil.createPredicate(thresholdFeature, leftValues, missingValue, predicateManager);
-				rightPredicate = ThresholdFeatureUtil.createPredicate(thresholdFeature, rightValues, missingValue, predicateManager);
-			} else
+				{
+					ContinuousFeature continuousFeature = toContinuousFeature(feature);
 
-			{
-				ContinuousFeature continuousFeature = toContinuousFeature(feature);
+					Double value = threshold;
 
-				Double value = threshold;
+					leftPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.LESS_OR_EQUAL, value);
+					rightPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.GREATER_THAN, value);
+				}
 
-				leftPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.LESS_OR_EQUAL, value);
-				rightPredicate = predicateManager.createSimplePredicate(continuousFeature, SimplePredicate.Operator.GREATER_THAN, value);
-			}
+				split
+					.setLeft(leftChildren[index], leftPredicate, leftCategoryManager)
+					.setRight(rightChildren[index], rightPredicate, rightCategoryManager);
 
-			int leftIndex = leftChildren[index];
-			int rightIndex = rightChildren[index];
+				Node result;
 
-			Node leftChild = encodeNode(leftIndex, leftPredicate, miningFunction, numeric, leftChildren, rightChildren, features, thresholds, values, leftCategoryManager, predicateManager, scoreDistributionManager, schema);
-			Node rightChild = encodeNode(rightIndex, rightPredicate, miningFunction, numeric, leftChildren, rightChildren, features, thresholds, values, rightCategoryManager, predicateManager, scoreDistributionManager, schema);
+				if(miningFunction == MiningFunction.CLASSIFICATION){
+					result = new ClassifierNode(null, predicate);
+				} else
 
-			Node result;
+				if(miningFunction == MiningFunction.REGRESSION){
+					double value = values[index];
 
-			if(miningFunction == MiningFunction.CLASSIFICATION){
-				result = new ClassifierNode(null, predicate);
-			} else
+					result = new BranchNode(value, predicate);
+				} else
 
-			if(miningFunction == MiningFunction.REGRESSION){
-				double value = values[index];
+				{
+					throw new IllegalArgumentException();
+				}
 
-				result = new BranchNode(value, predicate);
-			} else
+				result.setId(id);
 
-			{
-				throw new IllegalArgumentException();
+				return result;
 			}
 
-			result
-				.setId(id)
-				.addNodes(leftChild, rightChild);
+			@Override
+			public Node encodeLeaf(int index, Predicate predicate){
+				Integer id = Integer.valueOf(index);
 
-			return result;
-		} else
+				Node result;
 
-		// A leaf node
-		{
-			Node result;
+				if(miningFunction == MiningFunction.CLASSIFICATION){
+					double[] leafValues = getRow(values, leftChildren.length, categoricalLabel.size(), index);
 
-			if(miningFunction == MiningFunction.CLASSIFICATION){
-				CategoricalLabel categoricalLabel = (CategoricalLabel)schema.getLabel();
+					List<Number> recordCounts = new AbstractList<Number>(){
 
-				double[] leafValues = getRow(values, leftChildren.length, categoricalLabel.size(), index);
+						@Override
+						public int size(){
+							return leafValues.length;
+						}
 
-				List<Number> recordCounts = new AbstractList<Number>(){
+						@Override
+						public Number get(int index){
+							double leafValue = leafValues[index];
 
-					@Override
-					public int size(){
-						return leafValues.length;
-					}
+							return ValueUtil.narrow(leafValue);
+						}
+					};
 
-					@Override
-					public Number get(int index){
-						double leafValue = leafValues[index];
+					double totalRecordCount = 0d;
 
-						return ValueUtil.narrow(leafValue);
+					for(Number recordCount : recordCounts){
+						totalRecordCount += recordCount.doubleValue();
 					}
-				};
 
-				double totalRecordCount = 0d;
+					// XXX
+					int maxIndex = ScoreDistributionManager.indexOfMax(Doubles.asList(leafValues));
 
-				for(Number recordCount : recordCounts){
-					totalRecordCount += recordCount.doubleValue();
-				}
+					Object score = categoricalLabel.getValue(maxIndex);
 
-				// XXX
-				int maxIndex = ScoreDistributionManager.indexOfMax(Doubles.asList(leafValues));
+					result = new ClassifierNode(score, predicate)
+						.setId(id)
+						.setRecordCount(ValueUtil.narrow(totalRecordCount));
 
-				Object score = categoricalLabel.getValue(maxIndex);
-
-				result = new ClassifierNode(score, predicate)
-					.setId(id)
-					.setRecordCount(ValueUtil.narrow(totalRecordCount));
+					scoreDistributionManager.addScoreDistributions(result, categoricalLabel.getValues(), recordCounts, null);
+				} else
 
-				scoreDistributionManager.addScoreDistributions(result, categoricalLabel.getValues(), recordCounts, null);
-			} else
+				if(miningFunction == MiningFunction.REGRESSION){
+					double value = values[index];
 
-			if(miningFunction == MiningFunction.REGRESSION){
-				double value = values[index];
+					result = new LeafNode(value, predicate)
+						.setId(id);
+				} else
 
-				result = new LeafNode(value, predicate)
-					.setId(id);
-			} else
+				{
+					throw new IllegalArgumentException();
+				}
 
-			{
-				throw new IllegalArgumentException();
+				return result;
 			}
+		};
 
-			return result;
-		}
+		Node root = nodeEncoder.encode(0);
+
+		TreeModel treeModel = new TreeModel(miningFunction, ModelUtil.createMiningSchema(schema.getLabel()), root)
+			.setSplitCharacteristic(TreeModel.SplitCharacteristic.BINARY_SPLIT);
+
+		return treeModel;
 	}
 
 	static
@@ -491,6 +526,40 @@ public class TreeUtil {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Creates continuous split features in tree traversal (pre-)order.
+	 * </p>
+	 *
+	 * @see NodeEncoder
+	 */
+	static
+	public void ensureContinuousFeatures(Tree tree, boolean numeric, Schema schema){
+		int[] leftChildren = tree.getChildrenLeft();
+		int[] rightChildren = tree.getChildrenRight();
+		int[] features = tree.getFeature();
+
+		Deque<Integer> indices = new ArrayDeque<>();
+		indices.push(0);
+
+		while(!indices.isEmpty()){
+			int index = indices.pop();
+
+			int featureIndex = features[index];
+
+			if(featureIndex >= 0){
+				Feature feature = schema.getFeature(featureIndex);
+
+				if(!(feature instanceof BinaryFeature) && !(feature instanceof ThresholdFeature && !numeric)){
+					toContinuousFeature(feature);
+				}
+
+				indices.push(rightChildren[index]);
+				indices.push(leftChildren[index]);
+			}
+		}
+	}
+
 	static
 	private Schema toTreeModelSchema(DataType dataType, boolean numeric, Schema schema){
 		Function<Feature, Feature> function = new Function<Feature, Feature>(){
@@ -558,6 +627,24 @@ public class TreeUtil {
 			.toContinuousFeature(DataType.DOUBLE); // Second, cast from numpy.float32 to numpy.float64
 	}
 
+	static
+	private Set<?> getSplitValues(ThresholdFeature thresholdFeature, double threshold, boolean left){
+
+		if(thresholdFeature instanceof HasSplitValues){
+			HasSplitValues hasSplitValues = (HasSplitValues)thresholdFeature;
+
+			return left ? hasSplitValues.getLeftValues(threshold) : hasSplitValues.getRightValues(threshold);
+		} // End if
+
+		if(left){
+			return thresholdFeature.getValues((Number value) -> (toSplitValue(value) <= threshold));
+		} else
+
+		{
+			return thresholdFeature.getValues((Number value) -> (toSplitValue(value) > threshold));
+		}
+	}
+
 	static
 	private double toSplitValue(Number value){
 		return (double)value.floatValue();
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree.visitors;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.visitors.AbstractTreeModelTransformer;
+
+/**
+ * <p>
+ * A tree model transformer that traverses the node graph using an explicit stack (instead of the call stack).
+ * </p>
+ *
+ * The nodes are entered and exited in the same order as during a recursive traversal,
+ * and the child node lists are iterated the same way (ie. by index, up to their initial size).
+ * Only nodes are visited. Other elements of the tree model are skipped.
+ *
+ * @see sklearn.tree.NodeEncoder
+ */
+abstract
+public class AbstractIterativeTreeModelTransformer extends AbstractTreeModelTransformer {
+
+	@Override
+	public VisitorAction visit(TreeModel treeModel){
+		VisitorAction status = super.visit(treeModel);
+
+		if(status != VisitorAction.CONTINUE){
+			return status;
+		}
+
+		Node node = treeModel.getNode();
+
+		pushParent(treeModel);
+
+		if(node != null){
+			traverse(node);
+		}
+
+		popParent();
+
+		return VisitorAction.SKIP;
+	}
+
+	private void traverse(Node root){
+		Deque<Frame> frames = new ArrayDeque<>();
+
+		enter(root, frames);
+
+		while(!frames.isEmpty()){
+			Frame frame = frames.peekFirst();
+
+			if(frame.index < frame.size){
+				Node child = (frame.children).get(frame.index);
+
+				frame.index++;
+
+				if(child != null){
+					enter(child, frames);
+				}
+			} else
+
+			{
+				frames.removeFirst();
+
+				popParent();
+			}
+		}
+	}
+
+	private void enter(Node node, Deque<Frame> frames){
+		VisitorAction status = visit(node);
+
+		if(status != VisitorAction.CONTINUE){
+			return;
+		}
+
+		pushParent(node);
+
+		List<Node> children = (node.hasNodes() ? node.getNodes() : null);
+
+		frames.addFirst(new Frame(children));
+	}
+
+	static
+	private class Frame {
+
+		private List<Node> children = null;
+
+		private int index = 0;
+
+		private int size = 0;
+
+
+		private Frame(List<Node> children){
+			this.children = children;
+			this.size = (children != null ? children.size() : 0);
+		}
+	}
+}
\ No newline at end of file
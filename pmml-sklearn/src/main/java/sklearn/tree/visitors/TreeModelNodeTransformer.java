@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree.visitors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import numpy.core.ScalarUtil;
+import org.dmg.pmml.HasExtensions;
+import org.dmg.pmml.ScoreDistribution;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.NodeTransformer;
+import org.dmg.pmml.tree.SimplifyingNodeTransformer;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.PMMLUtil;
+import org.jpmml.converter.ValueUtil;
+import org.jpmml.model.visitors.AbstractVisitor;
+
+/**
+ * <p>
+ * A Visitor that applies all node-local transformations in a single traversal.
+ * </p>
+ *
+ * The transformations are (in order):
+ * <ol>
+ *   <li>Adding node extensions, whose values are looked up by SkLearn node identifier.</li>
+ *   <li>Clearing the scores of branch (non-leaf) nodes.</li>
+ *   <li>Clearing node identifiers.</li>
+ * </ol>
+ */
+public class TreeModelNodeTransformer extends AbstractVisitor {
+
+	private List<String> names = Collections.emptyList();
+
+	private List<Map<Integer, ?>> values = Collections.emptyList();
+
+	private boolean clearScore = false;
+
+	private boolean clearId = false;
+
+	private NodeTransformer nodeTransformer = SimplifyingNodeTransformer.INSTANCE;
+
+
+	public TreeModelNodeTransformer(Map<String, Map<Integer, ?>> nodeExtensions, boolean clearScore, boolean clearId){
+
+		if(nodeExtensions != null){
+			this.names = new ArrayList<>(nodeExtensions.size());
+			this.values = new ArrayList<>(nodeExtensions.size());
+
+			Collection<? extends Map.Entry<String, Map<Integer, ?>>> entries = nodeExtensions.entrySet();
+			for(Map.Entry<String, Map<Integer, ?>> entry : entries){
+				this.names.add(entry.getKey());
+				this.values.add(entry.getValue());
+			}
+		}
+
+		this.clearScore = clearScore;
+		this.clearId = clearId;
+	}
+
+	public boolean isEmpty(){
+		return this.names.isEmpty() && !this.clearScore && !this.clearId;
+	}
+
+	@Override
+	public VisitorAction visit(TreeModel treeModel){
+		treeModel.setNode(ensureExtensibility(treeModel.getNode()));
+
+		return super.visit(treeModel);
+	}
+
+	@Override
+	public VisitorAction visit(Node node){
+
+		if(node.hasNodes()){
+			List<Node> children = node.getNodes();
+
+			if(!this.names.isEmpty()){
+
+				for(ListIterator<Node> childIt = children.listIterator(); childIt.hasNext(); ){
+					childIt.set(ensureExtensibility(childIt.next()));
+				}
+			} // End if
+
+			if(this.clearScore){
+				node.setScore(null);
+
+				if(node.hasScoreDistributions()){
+					List<ScoreDistribution> scoreDistributions = node.getScoreDistributions();
+
+					scoreDistributions.clear();
+				}
+			}
+		} // End if
+
+		if(!this.names.isEmpty()){
+			Integer id = getId(node);
+
+			for(int i = 0; i < this.names.size(); i++){
+				Object value = (this.values.get(i)).get(id);
+
+				if(value != null){
+					value = ScalarUtil.decode(value);
+
+					((HasExtensions<?>)node).addExtensions(PMMLUtil.createExtension(this.names.get(i), ValueUtil.asString(value)));
+				}
+			}
+		} // End if
+
+		if(this.clearId){
+			node.setId(null);
+		}
+
+		return super.visit(node);
+	}
+
+	private Node ensureExtensibility(Node node){
+
+		if(this.names.isEmpty() || (node instanceof HasExtensions)){
+			return node;
+		}
+
+		Integer id = getId(node);
+
+		for(Map<Integer, ?> values : this.values){
+
+			if(values.get(id) != null){
+				return this.nodeTransformer.toComplexNode(node);
+			}
+		}
+
+		return node;
+	}
+
+	static
+	private Integer getId(Node node){
+		return ValueUtil.asInteger((Number)node.getId());
+	}
+}
@@ -74,6 +74,7 @@ import sklearn.Classifier;
 import sklearn.Estimator;
 import sklearn.HasClasses;
 import sklearn.Step;
+import sklearn.StepUtil;
 import sklearn.Transformer;
 import sklearn.pipeline.SkLearnPipeline;
 import sklearn2pmml.HasPMMLOptions;
@@ -313,6 +314,10 @@ public class PMMLPipeline extends SkLearnPipeline implements HasPMMLOptions<PMML
 
 				ReflectionUtil.setFieldValue(elementField, model, pmmlObject);
 			}
+		} // End if
+
+		if(isReleaseContent()){
+			StepUtil.releaseContent(this);
 		}
 
 		return encodePMML(header, model, repr, encoder);
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn2pmml.preprocessing;
+
+import org.dmg.pmml.MapValues;
+import org.jpmml.sklearn.HasSkLearnOptions;
+
+public interface HasLookupOptions extends HasSkLearnOptions {
+
+	/**
+	 * Should entries that map to the default value be left out from the lookup table?
+	 *
+	 * @see MapValues#getDefaultValue()
+	 */
+	String OPTION_FOLD_DEFAULT = "fold_default";
+}
\ No newline at end of file
@@ -18,17 +18,20 @@
  */
 package sklearn2pmml.preprocessing;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.DerivedField;
 import org.dmg.pmml.FieldColumnPair;
+import org.dmg.pmml.InlineTable;
 import org.dmg.pmml.MapValues;
 import org.dmg.pmml.OpType;
 import org.jpmml.converter.Feature;
@@ -38,8 +41,10 @@ import org.jpmml.converter.TypeUtil;
 import org.jpmml.python.ClassDictUtil;
 import org.jpmml.sklearn.SkLearnEncoder;
 import sklearn.Transformer;
+import sklearn2pmml.HasPMMLOptions;
+import sklearn2pmml.SkLearn2PMMLFields;
 
-public class LookupTransformer extends Transformer {
+public class LookupTransformer extends Transformer implements HasLookupOptions, HasPMMLOptions<LookupTransformer> {
 
 	public LookupTransformer(String module, String name){
 		super(module, name);
@@ -54,15 +59,14 @@ public class LookupTransformer extends Transformer {
 	public DataType getDataType(){
 		Map<?, ?> mapping = getMapping();
 
-		List<Object> inputValues = new ArrayList<>(mapping.keySet());
-
-		return TypeUtil.getDataType(inputValues, DataType.STRING);
+		return TypeUtil.getDataType(mapping.keySet(), DataType.STRING);
 	}
 
 	@Override
 	public List<Feature> encodeFeatures(List<Feature> features, SkLearnEncoder encoder){
 		Map<?, ?> mapping = getMapping();
 		Object defaultValue = getDefaultValue();
+		Boolean foldDefault = (Boolean)getOption(HasLookupOptions.OPTION_FOLD_DEFAULT, Boolean.FALSE);
 
 		List<String> columns = formatColumns(features);
 
@@ -71,9 +75,11 @@ public class LookupTransformer extends Transformer {
 		List<String> inputColumns = columns.subList(0, columns.size() - 1);
 		String outputColumn = columns.get(columns.size() - 1);
 
-		Map<String, List<Object>> data = parseMapping(inputColumns, outputColumn, mapping);
+		Map<String, List<Object>> data = parseMapping(inputColumns, outputColumn, mapping, (foldDefault ? defaultValue : null));
+
+		InlineTable inlineTable = PMMLUtil.createInlineTable(data);
 
-		MapValues mapValues = new MapValues(outputColumn, PMMLUtil.createInlineTable(data));
+		MapValues mapValues = new MapValues(outputColumn, inlineTable);
 
 		for(int i = 0; i < features.size(); i++){
 			Feature feature = features.get(i);
@@ -82,8 +88,8 @@ public class LookupTransformer extends Transformer {
 			mapValues.addFieldColumnPairs(new FieldColumnPair(feature.getName(), inputColumn));
 		}
 
-		List<Object> outputValues = new ArrayList<>();
-		outputValues.addAll(data.get(outputColumn));
+		// The data type depends on distinct values only
+		Set<Object> outputValues = new HashSet<>(data.get(outputColumn));
 
 		if(defaultValue != null){
 			mapValues.setDefaultValue(defaultValue);
@@ -106,9 +112,23 @@ public class LookupTransformer extends Transformer {
 		return Arrays.asList("data:input", "data:output");
 	}
 
-	protected Map<String, List<Object>> parseMapping(List<String> inputColumns, String outputColumn, Map<?, ?> mapping){
-		List<Object> inputValues = new ArrayList<>();
-		List<Object> outputValues = new ArrayList<>();
+	/**
+	 * <p>
+	 * Parses the mapping into columns.
+	 * </p>
+	 *
+	 * Equal output values are interned, so that every distinct output value is held in memory only once.
+	 *
+	 * @param foldedValue An output value that is covered by the default value, or <code>null</code>.
+	 * Entries that map to this output value are left out.
+	 */
+	protected Map<String, List<Object>> parseMapping(List<String> inputColumns, String outputColumn, Map<?, ?> mapping, Object foldedValue){
+		Object[] inputValues = new Object[mapping.size()];
+		Object[] outputValues = new Object[mapping.size()];
+
+		Map<Object, Object> internedOutputValues = new HashMap<>();
+
+		int size = 0;
 
 		Collection<? extends Map.Entry<?, ?>> entries = mapping.entrySet();
 		for(Map.Entry<?, ?> entry : entries){
@@ -119,19 +139,21 @@ public class LookupTransformer extends Transformer {
 				throw new IllegalArgumentException();
 			} // End if
 
-			if(outputValue == null){
+			if(outputValue == null || outputValue.equals(foldedValue)){
 				continue;
 			}
 
-			inputValues.add(inputValue);
-			outputValues.add(outputValue);
+			inputValues[size] = inputValue;
+			outputValues[size] = intern(internedOutputValues, outputValue);
+
+			size++;
 		}
 
 		String inputColumn = inputColumns.get(0);
 
 		Map<String, List<Object>> result = new LinkedHashMap<>();
-		result.put(inputColumn, inputValues);
-		result.put(outputColumn, outputValues);
+		result.put(inputColumn, toList(inputValues, size));
+		result.put(outputColumn, toList(outputValues, size));
 
 		return result;
 	}
@@ -143,4 +165,54 @@ public class LookupTransformer extends Transformer {
 	public Object getDefaultValue(){
 		return getOptionalScalar("default_value");
 	}
+
+	public Object getOption(String key, Object defaultValue){
+		Map<String, ?> pmmlOptions = getPMMLOptions();
+
+		if(pmmlOptions != null && pmmlOptions.containsKey(key)){
+			return pmmlOptions.get(key);
+		}
+
+		return defaultValue;
+	}
+
+	@Override
+	public Map<String, ?> getPMMLOptions(){
+		Object value = get(SkLearn2PMMLFields.PMML_OPTIONS);
+
+		if(value == null){
+			return null;
+		}
+
+		return getDict(SkLearn2PMMLFields.PMML_OPTIONS);
+	}
+
+	@Override
+	public LookupTransformer setPMMLOptions(Map<String, ?> pmmlOptions){
+		put(SkLearn2PMMLFields.PMML_OPTIONS, pmmlOptions);
+
+		return this;
+	}
+
+	static
+	protected Object intern(Map<Object, Object> values, Object value){
+		Object result = values.putIfAbsent(value, value);
+
+		if(result != null){
+			return result;
+		}
+
+		return value;
+	}
+
+	static
+	protected List<Object> toList(Object[] values, int size){
+		List<Object> result = Arrays.asList(values);
+
+		if(size < values.length){
+			result = result.subList(0, size);
+		}
+
+		return result;
+	}
 }
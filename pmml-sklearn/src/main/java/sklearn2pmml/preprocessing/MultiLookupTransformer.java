@@ -20,6 +20,7 @@ package sklearn2pmml.preprocessing;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,14 +66,13 @@ public class MultiLookupTransformer extends LookupTransformer {
 	}
 
 	@Override
-	protected Map<String, List<Object>> parseMapping(List<String> inputColumns, String outputColumn, Map<?, ?> mapping){
-		Map<String, List<Object>> result = new LinkedHashMap<>();
+	protected Map<String, List<Object>> parseMapping(List<String> inputColumns, String outputColumn, Map<?, ?> mapping, Object foldedValue){
+		Object[][] inputValues = new Object[inputColumns.size()][mapping.size()];
+		Object[] outputValues = new Object[mapping.size()];
 
-		for(String inputColumn : inputColumns){
-			result.put(inputColumn, new ArrayList<>());
-		}
+		Map<Object, Object> internedOutputValues = new HashMap<>();
 
-		result.put(outputColumn, new ArrayList<>());
+		int size = 0;
 
 		Collection<? extends Map.Entry<?, ?>> entries = mapping.entrySet();
 		for(Map.Entry<?, ?> entry : entries){
@@ -83,21 +83,27 @@ public class MultiLookupTransformer extends LookupTransformer {
 				throw new IllegalArgumentException();
 			} // End if
 
-			if(outputValue == null){
+			if(outputValue == null || outputValue.equals(foldedValue)){
 				continue;
 			}
 
 			for(int i = 0; i < inputColumns.size(); i++){
-				List<Object> inputValues = result.get(inputColumns.get(i));
-
-				inputValues.add(inputValue[i]);
+				inputValues[i][size] = inputValue[i];
 			}
 
-			List<Object> outputValues = result.get(outputColumn);
+			outputValues[size] = intern(internedOutputValues, outputValue);
+
+			size++;
+		}
+
+		Map<String, List<Object>> result = new LinkedHashMap<>();
 
-			outputValues.add(outputValue);
+		for(int i = 0; i < inputColumns.size(); i++){
+			result.put(inputColumns.get(i), toList(inputValues[i], size));
 		}
 
+		result.put(outputColumn, toList(outputValues, size));
+
 		return result;
 	}
 }
@@ -30,6 +30,7 @@ import org.jpmml.python.ClassDictUtil;
 import org.jpmml.python.HasArray;
 import org.jpmml.python.TupleUtil;
 import org.jpmml.sklearn.SkLearnEncoder;
+import sklearn.FeatureIndex;
 import sklearn.Initializer;
 import sklearn.InitializerUtil;
 import sklearn.Transformer;
@@ -55,13 +56,15 @@ public class DataFrameMapper extends Initializer {
 			throw new IllegalArgumentException("Attribute \'" + ClassDictUtil.formatMember(this, "default") + "\' must be set to the 'False' value");
 		}
 
+		FeatureIndex featureIndex = new FeatureIndex(features);
+
 		List<Feature> result = new ArrayList<>();
 
 		for(Object[] row : rows){
 			List<String> columns = getColumnList(row);
 			List<Transformer> transformers = getTransformerList(row);
 
-			List<Feature> rowFeatures = InitializerUtil.selectFeatures(columns, features, encoder);
+			List<Feature> rowFeatures = InitializerUtil.selectFeatures(columns, featureIndex, encoder);
 
 			for(Transformer transformer : transformers){
 				rowFeatures = transformer.encode(rowFeatures, encoder);
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jpmml.python.HasArray;
+import org.jpmml.python.PythonObject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PrimitiveArrayUtilTest {
+
+	@Test
+	public void getSimpleArray(){
+		ByteBuffer buffer = ByteBuffer.allocate(3 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putLong(-1L);
+		buffer.putLong(0L);
+		buffer.putLong(3L);
+
+		PythonObject object = createObject("<i8", buffer.array(), 3);
+
+		assertArrayEquals(new int[]{-1, 0, 3}, PrimitiveArrayUtil.getIntArray(object, "array"));
+		assertArrayEquals(new double[]{-1d, 0d, 3d}, PrimitiveArrayUtil.getDoubleArray(object, "array"), 0d);
+
+		buffer = ByteBuffer.allocate(2 * 4)
+			.order(ByteOrder.BIG_ENDIAN);
+
+		buffer.putFloat(0.5f);
+		buffer.putFloat(-1.25f);
+
+		object = createObject(">f4", buffer.array(), 2);
+
+		assertArrayEquals(new int[]{0, -1}, PrimitiveArrayUtil.getIntArray(object, "array"));
+		assertArrayEquals(new double[]{0.5d, -1.25d}, PrimitiveArrayUtil.getDoubleArray(object, "array"), 0d);
+	}
+
+	@Test
+	public void getStructuredArray(){
+		ByteBuffer buffer = ByteBuffer.allocate(2 * (8 + 8 + 4))
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putLong(1L).putDouble(1.5d).putInt(7);
+		buffer.putLong(-1L).putDouble(-2d).putInt(Integer.MAX_VALUE);
+
+		Object descr = Arrays.asList(
+			new Object[]{"left_child", "<i8"},
+			new Object[]{"threshold", "<f8"},
+			new Object[]{"n_node_samples", "<u4"}
+		);
+
+		PythonObject object = createObject(descr, buffer.array(), 2);
+
+		assertArrayEquals(new int[]{1, -1}, PrimitiveArrayUtil.getIntArray(object, "array", "left_child"));
+		assertArrayEquals(new double[]{1.5d, -2d}, PrimitiveArrayUtil.getDoubleArray(object, "array", "threshold"), 0d);
+		assertArrayEquals(new int[]{7, Integer.MAX_VALUE}, PrimitiveArrayUtil.getIntArray(object, "array", "n_node_samples"));
+
+		assertNull(PrimitiveArrayUtil.getIntArray(object, "array", "is_leaf"));
+	}
+
+	@Test
+	public void getBoxedArray(){
+		PythonObject object = new PythonObject("builtins", "object"){
+		};
+		object.put("array", NDArrayUtil.toArray(Arrays.asList(1, 2, 3)));
+
+		assertArrayEquals(new int[]{1, 2, 3}, PrimitiveArrayUtil.getIntArray(object, "array"));
+		assertArrayEquals(new double[]{1d, 2d, 3d}, PrimitiveArrayUtil.getDoubleArray(object, "array"), 0d);
+	}
+
+	@Test
+	public void getColumns(){
+		ByteBuffer buffer = ByteBuffer.allocate(2 * 3 * 4)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putFloat(1f).putFloat(0.1f).putFloat(-3f);
+		buffer.putFloat(4f).putFloat(0.5f).putFloat(6f);
+
+		PythonObject object = createObject("<f4", buffer.array(), new Object[]{2, 3});
+
+		List<List<? extends Number>> columns = PrimitiveArrayUtil.getColumns(object, "array");
+
+		assertEquals(Arrays.asList(Arrays.asList(1f, 4f), Arrays.asList(0.1f, 0.5f), Arrays.asList(-3f, 6f)), columns);
+
+		buffer = ByteBuffer.allocate(3 * 2 * 8)
+			.order(ByteOrder.BIG_ENDIAN);
+
+		buffer.putLong(1L).putLong(-2L);
+		buffer.putLong(3L).putLong(-4L);
+		buffer.putLong(5L).putLong(-6L);
+
+		object = createObject(">i8", buffer.array(), new Object[]{3, 2});
+
+		columns = PrimitiveArrayUtil.getColumns(object, "array");
+
+		assertEquals(Arrays.asList(Arrays.asList(1L, 3L, 5L), Arrays.asList(-2L, -4L, -6L)), columns);
+
+		columns = PrimitiveArrayUtil.getColumns((HasArray)object.get("array"));
+
+		assertEquals(Arrays.asList(Arrays.asList(1L, 3L, 5L), Arrays.asList(-2L, -4L, -6L)), columns);
+	}
+
+	@Test
+	public void getNumberArray(){
+		ByteBuffer buffer = ByteBuffer.allocate(3 * 4)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putFloat(1f).putFloat(0f).putFloat(-0.1f);
+
+		PythonObject object = createObject("<f4", buffer.array(), 3);
+
+		assertEquals(Arrays.asList(1f, 0f, -0.1f), PrimitiveArrayUtil.getNumberArray(object, "array"));
+
+		object.put("array", NDArrayUtil.toArray(Arrays.asList(1d, 0d, -0.1d)));
+
+		assertEquals(Arrays.asList(1d, 0d, -0.1d), PrimitiveArrayUtil.getNumberArray(object, "array"));
+
+		buffer = ByteBuffer.allocate(3 * 4)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(-1).putInt(0).putInt(255);
+
+		object = createObject("<i4", buffer.array(), 3);
+
+		assertEquals(Arrays.asList(-1, 0, 255), PrimitiveArrayUtil.getNumberArray(object, "array"));
+
+		object = createObject("<u2", new byte[]{(byte)0xff, (byte)0xff, 1, 0}, 2);
+
+		assertEquals(Arrays.asList(65535, 1), PrimitiveArrayUtil.getNumberArray(object, "array"));
+
+		object = createObject("<i2", new byte[]{(byte)0xff, (byte)0xff, 1, 0}, 2);
+
+		assertEquals(Arrays.asList((short)-1, (short)1), PrimitiveArrayUtil.getNumberArray(object, "array"));
+	}
+
+	@Test
+	public void getStringBackedArray(){
+		ByteBuffer buffer = ByteBuffer.allocate(2 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putLong(-1L).putLong(200L);
+
+		PythonObject object = createObject("<i8", new String(buffer.array(), StandardCharsets.ISO_8859_1), 2);
+
+		assertArrayEquals(new int[]{-1, 200}, PrimitiveArrayUtil.getIntArray(object, "array"));
+		assertEquals(Arrays.asList(-1L, 200L), PrimitiveArrayUtil.getNumberArray(object, "array"));
+	}
+
+	@Test
+	public void transpose(){
+		List<Integer> values = Arrays.asList(1, 2, 3, 4, 5, 6);
+
+		assertEquals(Arrays.asList(Arrays.asList(1, 3, 5), Arrays.asList(2, 4, 6)), PrimitiveArrayUtil.transpose(values, 3, 2));
+		assertEquals(Arrays.asList(Arrays.asList(1, 4), Arrays.asList(2, 5), Arrays.asList(3, 6)), PrimitiveArrayUtil.transpose(values, 2, 3));
+	}
+
+	static
+	private PythonObject createObject(Object descr, Object data, int length){
+		return createObject(descr, data, new Object[]{length});
+	}
+
+	static
+	private PythonObject createObject(Object descr, Object data, Object[] shape){
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, shape, descr, Boolean.FALSE, data});
+
+		PythonObject result = new PythonObject("builtins", "object"){
+		};
+		result.put("array", array);
+
+		return result;
+	}
+}
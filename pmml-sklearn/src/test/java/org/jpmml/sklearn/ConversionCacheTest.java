@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+
+	@Test
+	public void computeKey() throws IOException {
+		ConversionCache cache = new ConversionCache(this.folder.newFolder("cache"), 1024L, "1.0.0");
+
+		File input = write(this.folder.newFile("pipeline.pkl"), "pickle");
+
+		Map<String, Object> options = new LinkedHashMap<>();
+		options.put("compact", Boolean.FALSE);
+		options.put("winner_id", Boolean.TRUE);
+
+		Map<String, Object> reorderedOptions = new LinkedHashMap<>();
+		reorderedOptions.put("winner_id", Boolean.TRUE);
+		reorderedOptions.put("compact", Boolean.FALSE);
+		reorderedOptions.put("flat", null);
+
+		String key = cache.computeKey(input, options);
+
+		assertEquals(64, key.length());
+		assertEquals(key, cache.computeKey(input, reorderedOptions));
+
+		assertNotEquals(key, cache.computeKey(input, Collections.emptyMap()));
+		assertNotEquals(key, cache.computeKey(input, Collections.singletonMap("compact", Boolean.TRUE)));
+
+		assertNotEquals(cache.computeKey(input, Collections.singletonMap("parallelism", 1)), cache.computeKey(input, Collections.singletonMap("parallelism", "1")));
+
+		ConversionCache otherCache = new ConversionCache(cache.getDirectory(), 1024L, "1.0.1");
+
+		assertNotEquals(key, otherCache.computeKey(input, options));
+
+		write(input, "modified pickle");
+
+		assertNotEquals(key, cache.computeKey(input, options));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void computeKeyUnknownVersion() throws IOException {
+		ConversionCache cache = new ConversionCache(this.folder.newFolder("cache"), 1024L, null);
+
+		assertFalse(cache.isEnabled());
+
+		File input = write(this.folder.newFile("pipeline.pkl"), "pickle");
+
+		cache.computeKey(input, Collections.emptyMap());
+	}
+
+	@Test
+	public void getAndPut() throws IOException {
+		ConversionCache cache = new ConversionCache(this.folder.newFolder("cache"), 10L, "1.0.0");
+
+		File output = this.folder.newFile("pipeline.pmml");
+
+		assertFalse(cache.get("a", output));
+
+		cache.put("a", write(output, "aaaa"));
+		cache.put("b", write(output, "bbbb"));
+
+		File cacheDir = cache.getDirectory();
+
+		// Make "a" the least recently used entry
+		Files.setLastModifiedTime(new File(cacheDir, "a.pmml").toPath(), FileTime.fromMillis(1000L));
+		Files.setLastModifiedTime(new File(cacheDir, "b.pmml").toPath(), FileTime.fromMillis(2000L));
+
+		assertTrue(cache.get("a", output));
+		assertEquals("aaaa", read(output));
+
+		Files.setLastModifiedTime(new File(cacheDir, "b.pmml").toPath(), FileTime.fromMillis(1000L));
+
+		cache.put("c", write(output, "cccc"));
+
+		assertTrue(cache.get("a", output));
+		assertFalse(cache.get("b", output));
+		assertTrue(cache.get("c", output));
+		assertEquals("cccc", read(output));
+
+		assertEquals(2, cacheDir.list().length);
+	}
+
+	static
+	private File write(File file, String string) throws IOException {
+		Files.write(file.toPath(), string.getBytes(StandardCharsets.UTF_8));
+
+		return file;
+	}
+
+	static
+	private String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+}
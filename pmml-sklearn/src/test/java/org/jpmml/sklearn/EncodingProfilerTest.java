@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.MiningFunction;
+import org.dmg.pmml.MiningSchema;
+import org.dmg.pmml.True;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segmentation;
+import org.dmg.pmml.tree.ComplexNode;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.WildcardFeature;
+import org.jpmml.converter.mining.MiningModelUtil;
+import org.junit.Test;
+import sklearn.preprocessing.StandardScaler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EncodingProfilerTest {
+
+	@Test
+	public void record(){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		DataField dataField = encoder.createDataField("x");
+
+		List<Feature> features = Collections.singletonList(new WildcardFeature(encoder, dataField));
+
+		StandardScaler firstScaler = createScaler(2d);
+		StandardScaler secondScaler = createScaler(3d);
+
+		EncodingProfiler profiler = new EncodingProfiler();
+
+		profiler.activate();
+
+		try {
+			features = EncodingProfiler.profile(firstScaler, () -> {
+				List<Feature> firstFeatures = firstScaler.encode(Collections.singletonList(new WildcardFeature(encoder, dataField)), encoder);
+
+				return secondScaler.encode(firstFeatures, encoder);
+			});
+		} finally {
+			profiler.deactivate();
+		}
+
+		assertNull(EncodingProfiler.getCurrent());
+
+		List<EncodingProfiler.Profile> profiles = profiler.getProfiles();
+
+		assertEquals(1, profiles.size());
+
+		EncodingProfiler.Profile profile = profiles.get(0);
+
+		assertEquals("sklearn.preprocessing.StandardScaler", profile.getClassName());
+		assertEquals("transformer", profile.getType());
+		assertEquals(2, profile.getDerivedFields());
+		assertEquals(0, profile.getNodes());
+
+		List<EncodingProfiler.Profile> nestedProfiles = profile.getProfiles();
+
+		assertEquals(2, nestedProfiles.size());
+
+		for(EncodingProfiler.Profile nestedProfile : nestedProfiles){
+			assertEquals(1, nestedProfile.getDerivedFields());
+			assertTrue(nestedProfile.getWallTime() <= profile.getWallTime());
+		}
+
+		secondScaler.encode(features, encoder);
+
+		assertEquals(1, profiles.size());
+
+		String json = profiler.format(Collections.singletonMap("input", "C:\\pipeline.pkl"));
+
+		assertTrue(json.startsWith("{\n\t\"input\": \"C:\\\\pipeline.pkl\",\n\t\"steps\": ["));
+
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		attributes.put("nan", Double.NaN);
+		attributes.put("infinity", Float.NEGATIVE_INFINITY);
+		attributes.put("count", 1);
+
+		json = profiler.format(attributes);
+
+		assertTrue(json.startsWith("{\n\t\"nan\": null,\n\t\"infinity\": null,\n\t\"count\": 1,\n\t\"steps\": ["));
+	}
+
+	@Test
+	public void recordNodes(){
+		TreeModel firstTreeModel = new TreeModel(MiningFunction.REGRESSION, new MiningSchema(), createNode(3));
+		TreeModel secondTreeModel = new TreeModel(MiningFunction.REGRESSION, new MiningSchema(), createNode(2));
+
+		StandardScaler step = createScaler(1d);
+
+		EncodingProfiler profiler = new EncodingProfiler();
+
+		profiler.record(step, () -> {
+			TreeModel treeModel = profiler.record(step, () -> firstTreeModel);
+
+			return new MiningModel(MiningFunction.REGRESSION, new MiningSchema())
+				.setSegmentation(MiningModelUtil.createSegmentation(Segmentation.MultipleModelMethod.SUM, Segmentation.MissingPredictionTreatment.RETURN_MISSING, Arrays.asList(treeModel, secondTreeModel)));
+		});
+
+		List<EncodingProfiler.Profile> profiles = profiler.getProfiles();
+
+		assertEquals(1, profiles.size());
+
+		EncodingProfiler.Profile profile = profiles.get(0);
+
+		assertEquals((1 + 2 + 4) + (1 + 2), profile.getNodes());
+
+		List<EncodingProfiler.Profile> nestedProfiles = profile.getProfiles();
+
+		assertEquals(1, nestedProfiles.size());
+
+		EncodingProfiler.Profile nestedProfile = nestedProfiles.get(0);
+
+		assertEquals((1 + 2 + 4), nestedProfile.getNodes());
+	}
+
+	static
+	private Node createNode(int depth){
+		Node result = new ComplexNode()
+			.setPredicate(True.INSTANCE);
+
+		if(depth > 1){
+			result.addNodes(createNode(depth - 1), createNode(depth - 1));
+		}
+
+		return result;
+	}
+
+	static
+	private StandardScaler createScaler(double std){
+		StandardScaler scaler = new StandardScaler("sklearn.preprocessing", "StandardScaler");
+		scaler.put("with_mean", Boolean.FALSE);
+		scaler.put("with_std", Boolean.TRUE);
+		scaler.put("std_", std);
+
+		return scaler;
+	}
+}
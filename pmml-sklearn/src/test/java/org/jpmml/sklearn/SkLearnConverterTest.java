@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.sklearn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.transform.stream.StreamResult;
+
+import org.dmg.pmml.Header;
+import org.dmg.pmml.PMML;
+import org.jpmml.model.JAXBUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class SkLearnConverterTest {
+
+	@Test
+	public void convertConcurrently() throws Exception {
+		SkLearnConverter converter = new SkLearnConverter();
+
+		Map<String, byte[]> expectedPmmlBytes = new LinkedHashMap<>();
+
+		for(String name : SkLearnConverterTest.NAMES){
+			expectedPmmlBytes.put(name, convert(converter, name));
+		}
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+
+		for(int i = 0; i < 8; i++){
+			List<String> names = new ArrayList<>(SkLearnConverterTest.NAMES);
+
+			// Different threads convert different fixtures at the same time
+			Collections.rotate(names, i);
+
+			tasks.add(() -> {
+
+				for(int j = 0; j < 3; j++){
+
+					for(String name : names){
+						assertArrayEquals(name, expectedPmmlBytes.get(name), convert(converter, name));
+					}
+				}
+
+				return null;
+			});
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+
+		try {
+			List<Future<Void>> futures = executorService.invokeAll(tasks);
+
+			for(Future<Void> future : futures){
+				future.get();
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	static
+	private byte[] convert(SkLearnConverter converter, String name) throws Exception {
+		URL url = SkLearnConverterTest.class.getResource("/pkl/" + name + ".pkl");
+
+		PMML pmml = converter.convert(new File(url.toURI()), Collections.emptyMap());
+
+		Header header = pmml.getHeader();
+		header.setTimestamp(null);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		JAXBUtil.marshalPMML(pmml, new StreamResult(os));
+
+		return os.toByteArray();
+	}
+
+	private static final List<String> NAMES = Arrays.asList("DecisionTreeAudit", "ExpressionAuto", "HistGradientBoostingAudit", "KMeansWheat", "MLPIris", "NaiveBayesIris", "RandomForestIris", "SVCIris");
+}
@@ -18,6 +18,9 @@
  */
 package org.jpmml.sklearn.testing;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import com.google.common.base.Equivalence;
@@ -25,11 +28,13 @@ import org.jpmml.converter.FieldNameUtil;
 import org.jpmml.converter.FieldNames;
 import org.jpmml.converter.testing.Datasets;
 import org.jpmml.converter.testing.Fields;
+import org.jpmml.converter.testing.OptionsUtil;
 import org.jpmml.evaluator.ResultField;
 import org.jpmml.evaluator.testing.PMMLEquivalence;
 import org.jpmml.model.visitors.VisitorBattery;
 import org.junit.Test;
 import sklearn.Estimator;
+import sklearn.tree.HasTreeOptions;
 
 public class ClassifierTest extends ValidatingSkLearnEncoderBatchTest implements SkLearnAlgorithms, Datasets, Fields {
 
@@ -51,6 +56,20 @@ public class ClassifierTest extends ValidatingSkLearnEncoderBatchTest implements
 				return path;
 			}
 
+			@Override
+			public List<Map<String, Object>> getOptionsMatrix(){
+				String algorithm = getAlgorithm();
+
+				if((GRADIENT_BOOSTING).equals(algorithm) || (RANDOM_FOREST).equals(algorithm)){
+					Map<String, Object> options = new LinkedHashMap<>();
+					options.put(HasTreeOptions.OPTION_PARALLELISM, new Integer[]{1, 4});
+
+					return OptionsUtil.generateOptionsMatrix(options);
+				}
+
+				return super.getOptionsMatrix();
+			}
+
 			@Override
 			public VisitorBattery getValidators(){
 				VisitorBattery visitorBattery = super.getValidators();
@@ -52,6 +52,7 @@ public class OutlierDetectorTest extends ValidatingSkLearnEncoderBatchTest imple
 
 				if((ISOLATION_FOREST).equals(algorithm)){
 					Map<String, Object> options = new LinkedHashMap<>();
+					options.put(HasTreeOptions.OPTION_PARALLELISM, new Integer[]{1, 4});
 					options.put(HasTreeOptions.OPTION_PRUNE, new Boolean[]{false, true});
 
 					return OptionsUtil.generateOptionsMatrix(options);
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.calibration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.CategoricalLabel;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.FieldNameUtil;
+import org.jpmml.converter.Schema;
+import org.jpmml.evaluator.Evaluator;
+import org.jpmml.evaluator.EvaluatorUtil;
+import org.jpmml.evaluator.ModelEvaluatorBuilder;
+import org.jpmml.model.visitors.AbstractVisitor;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+import sklearn.Classifier;
+import sklearn.tree.Tree;
+import sklearn.tree.TreeClassifier;
+
+import static org.junit.Assert.assertEquals;
+
+public class CalibratedClassifierCVTest {
+
+	@Test
+	public void encodeSharedEstimator() throws Exception {
+		TreeClassifier estimator = createClassifier();
+
+		PMML sharedPmml = encode(createCalibratedClassifierCV(estimator, estimator, estimator));
+		PMML unsharedPmml = encode(createCalibratedClassifierCV(createClassifier(), createClassifier(), createClassifier()));
+
+		assertEquals(1, countTreeModels(sharedPmml));
+		assertEquals(3, countTreeModels(unsharedPmml));
+
+		Evaluator sharedEvaluator = new ModelEvaluatorBuilder(sharedPmml)
+			.build();
+
+		Evaluator unsharedEvaluator = new ModelEvaluatorBuilder(unsharedPmml)
+			.build();
+
+		List<String> names = Arrays.asList(FieldNameUtil.create(Classifier.FIELD_PROBABILITY, "a"), FieldNameUtil.create(Classifier.FIELD_PROBABILITY, "b"));
+
+		for(double x : new double[]{-1d, 0.5d, 2d}){
+			Map<String, ?> arguments = Collections.singletonMap("x", x);
+
+			Map<String, ?> sharedResults = EvaluatorUtil.decodeAll(sharedEvaluator.evaluate(arguments));
+			Map<String, ?> unsharedResults = EvaluatorUtil.decodeAll(unsharedEvaluator.evaluate(arguments));
+
+			assertEquals(unsharedResults.get("y"), sharedResults.get("y"));
+
+			for(String name : names){
+				assertEquals(name, (Double)unsharedResults.get(name), (Double)sharedResults.get(name), 1e-13);
+			}
+		}
+	}
+
+	static
+	private PMML encode(CalibratedClassifierCV calibratedClassifierCV){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		DataField xDataField = encoder.createDataField("x", OpType.CONTINUOUS, DataType.DOUBLE);
+		DataField yDataField = encoder.createDataField("y", OpType.CATEGORICAL, DataType.STRING, Arrays.asList("a", "b"));
+
+		Schema schema = new Schema(encoder, new CategoricalLabel(yDataField), Collections.singletonList(new ContinuousFeature(encoder, xDataField)));
+
+		Model model = calibratedClassifierCV.encode(schema);
+
+		return encoder.encodePMML(model);
+	}
+
+	static
+	private int countTreeModels(PMML pmml){
+		List<TreeModel> treeModels = new ArrayList<>();
+
+		AbstractVisitor visitor = new AbstractVisitor(){
+
+			@Override
+			public VisitorAction visit(TreeModel treeModel){
+				treeModels.add(treeModel);
+
+				return super.visit(treeModel);
+			}
+		};
+		visitor.applyTo(pmml);
+
+		return treeModels.size();
+	}
+
+	static
+	private CalibratedClassifierCV createCalibratedClassifierCV(Classifier... estimators){
+		List<CalibratedClassifier> calibratedClassifiers = new ArrayList<>();
+
+		for(int i = 0; i < estimators.length; i++){
+			SigmoidCalibration calibrator = new SigmoidCalibration("sklearn.calibration", "_SigmoidCalibration");
+			calibrator.put("a_", -2d - i);
+			calibrator.put("b_", 0.25d * i);
+
+			CalibratedClassifier calibratedClassifier = new CalibratedClassifier("sklearn.calibration", "_CalibratedClassifier");
+			calibratedClassifier.put("estimator", estimators[i]);
+			calibratedClassifier.put("calibrators", Collections.singletonList(calibrator));
+			calibratedClassifier.put("classes", Arrays.asList("a", "b"));
+			calibratedClassifier.put("method", "sigmoid");
+
+			calibratedClassifiers.add(calibratedClassifier);
+		}
+
+		CalibratedClassifierCV result = new CalibratedClassifierCV("sklearn.calibration", "CalibratedClassifierCV");
+		result.put("calibrated_classifiers_", calibratedClassifiers);
+		result.put("classes_", Arrays.asList("a", "b"));
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Creates a decision stump, which splits at <code>x &lt;= 0.5</code>.
+	 * </p>
+	 */
+	static
+	private TreeClassifier createClassifier(){
+		Tree tree = new Tree("sklearn.tree._tree", "Tree"){
+
+			@Override
+			public int[] getChildrenLeft(){
+				return new int[]{1, -1, -1};
+			}
+
+			@Override
+			public int[] getChildrenRight(){
+				return new int[]{2, -1, -1};
+			}
+
+			@Override
+			public int[] getFeature(){
+				return new int[]{0, -2, -2};
+			}
+
+			@Override
+			public double[] getThreshold(){
+				return new double[]{0.5d, -2d, -2d};
+			}
+
+			@Override
+			public double[] getValues(){
+				return new double[]{9d, 11d, 8d, 2d, 1d, 9d};
+			}
+		};
+
+		TreeClassifier result = new TreeClassifier("sklearn.tree._classes", "DecisionTreeClassifier");
+		result.put("tree_", tree);
+		result.put("classes_", Arrays.asList("a", "b"));
+
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.linear_model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import numpy.core.NDArray;
+import numpy.core.NDArrayUtil;
+import org.jpmml.python.PythonObject;
+import org.junit.Test;
+import scipy.sparse.CSRMatrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class LinearModelUtilTest {
+
+	@Test
+	public void getDenseCoefRows(){
+		ByteBuffer buffer = ByteBuffer.allocate(2 * 3 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putDouble(1d).putDouble(0d).putDouble(-3d);
+		buffer.putDouble(4d).putDouble(5d).putDouble(6d);
+
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, new Object[]{2, 3}, "<f8", Boolean.FALSE, buffer.array()});
+
+		PythonObject object = createObject(array);
+
+		List<LinearModelUtil.CoefRow> coefRows = LinearModelUtil.getCoefRows(object, "coef_", 2, 3);
+
+		assertEquals(2, coefRows.size());
+
+		List<String> features = Arrays.asList("a", "b", "c");
+
+		LinearModelUtil.CoefRow coefRow = coefRows.get(0);
+
+		assertEquals(Arrays.asList("a", "c"), coefRow.select(features));
+		assertEquals(Arrays.asList(1d, -3d), coefRow.getValues());
+
+		coefRow = coefRows.get(1);
+
+		assertSame(features, coefRow.select(features));
+		assertEquals(Arrays.asList(4d, 5d, 6d), coefRow.getValues());
+	}
+
+	@Test
+	public void getSparseCoefRows(){
+		CSRMatrix matrix = new CSRMatrix("scipy.sparse._csr", "csr_matrix");
+		matrix.put("data", NDArrayUtil.toArray(Arrays.asList(-3d, 1d, 0d, 5d)));
+		matrix.put("indices", NDArrayUtil.toArray(Arrays.asList(2, 0, 1, 1)));
+		matrix.put("indptr", NDArrayUtil.toArray(Arrays.asList(0, 3, 4, 4)));
+		matrix.put("_shape", new Object[]{3, 3});
+
+		PythonObject object = createObject(matrix);
+
+		List<LinearModelUtil.CoefRow> coefRows = LinearModelUtil.getCoefRows(object, "coef_", 3, 3);
+
+		assertEquals(3, coefRows.size());
+
+		List<String> features = Arrays.asList("a", "b", "c");
+
+		LinearModelUtil.CoefRow coefRow = coefRows.get(0);
+
+		assertEquals(Arrays.asList("a", "c"), coefRow.select(features));
+		assertEquals(Arrays.asList(1d, -3d), coefRow.getValues());
+
+		coefRow = coefRows.get(1);
+
+		assertEquals(Arrays.asList("b"), coefRow.select(features));
+		assertEquals(Arrays.asList(5d), coefRow.getValues());
+
+		coefRow = coefRows.get(2);
+
+		assertEquals(Collections.emptyList(), coefRow.select(features));
+		assertEquals(Collections.emptyList(), coefRow.getValues());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getSparseCoefRowsInvalidShape(){
+		CSRMatrix matrix = new CSRMatrix("scipy.sparse._csr", "csr_matrix");
+		matrix.put("data", NDArrayUtil.toArray(Collections.emptyList()));
+		matrix.put("indices", NDArrayUtil.toArray(Collections.emptyList()));
+		matrix.put("indptr", NDArrayUtil.toArray(Arrays.asList(0, 0)));
+		matrix.put("_shape", new Object[]{1, 3});
+
+		LinearModelUtil.getCoefRows(createObject(matrix), "coef_", 1, 2);
+	}
+
+	static
+	private PythonObject createObject(Object coef){
+		PythonObject result = new PythonObject("builtins", "object"){
+		};
+		result.put("coef_", coef);
+
+		return result;
+	}
+}
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import numpy.core.NDArray;
 import org.junit.Test;
 import sklearn.Classifier;
 import sklearn.CompositeClassifier;
@@ -30,12 +31,16 @@ import sklearn.Estimator;
 import sklearn.PassThrough;
 import sklearn.Regressor;
 import sklearn.SkLearnSteps;
+import sklearn.StepUtil;
 import sklearn.dummy.DummyClassifier;
 import sklearn.dummy.DummyRegressor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -102,6 +107,54 @@ public class SkLearnPipelineTest {
 		assertTrue(regressor instanceof CompositeRegressor);
 	}
 
+	@Test
+	public void clearContent(){
+		NDArray array = createArray();
+
+		SkLearnPipeline pipeline = forEstimator(createRegressor(array));
+
+		Object content = array.getContent();
+
+		assertEquals(Arrays.asList(1d, 2d), content);
+		assertSame(content, array.getContent());
+
+		StepUtil.clearContent(pipeline);
+
+		assertNotNull(array.get("data"));
+
+		assertNotSame(content, array.getContent());
+		assertEquals(content, array.getContent());
+	}
+
+	@Test
+	public void releaseContent(){
+		NDArray array = createArray();
+
+		SkLearnPipeline pipeline = forEstimator(createRegressor(array));
+
+		assertEquals(Arrays.asList(1d, 2d), array.getContent());
+
+		StepUtil.releaseContent(pipeline);
+
+		assertNull(array.get("data"));
+	}
+
+	static
+	private NDArray createArray(){
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, new Object[]{2}, "<f8", Boolean.FALSE, new byte[]{0, 0, 0, 0, 0, 0, (byte)0xf0, 0x3f, 0, 0, 0, 0, 0, 0, 0, 0x40}});
+
+		return array;
+	}
+
+	static
+	private DummyRegressor createRegressor(NDArray constant){
+		DummyRegressor regressor = new DummyRegressor();
+		regressor.put("constant_", constant);
+
+		return regressor;
+	}
+
 	static
 	private void checkIdentityTransform(SkLearnPipeline pipeline){
 		assertTrue(pipeline.hasTransformers());
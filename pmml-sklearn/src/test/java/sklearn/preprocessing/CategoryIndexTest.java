@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.preprocessing;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CategoryIndexTest {
+
+	@Test
+	public void exclude(){
+		CategoryIndex categoryIndex = new CategoryIndex(Arrays.asList("a", "b", "c", "d", "e", Double.NaN));
+
+		assertEquals(1, categoryIndex.indexOf("b"));
+		assertEquals(5, categoryIndex.indexOf(Double.NaN));
+		assertEquals(-1, categoryIndex.indexOf("infrequent"));
+
+		assertTrue(categoryIndex.contains("e"));
+		assertFalse(categoryIndex.contains(-999));
+
+		int[] indices = {3, 1};
+
+		assertEquals(Arrays.asList("d", "b"), categoryIndex.getCategories(indices));
+
+		categoryIndex.exclude(indices);
+
+		assertEquals(Arrays.asList("a", "c", "e", Double.NaN), categoryIndex.getRemainingCategories());
+
+		categoryIndex.excludeRemaining(2);
+
+		assertEquals(Arrays.asList("a", "c", Double.NaN), categoryIndex.getRemainingCategories());
+
+		categoryIndex.excludeRemaining(0);
+
+		assertEquals(Arrays.asList("c", Double.NaN), categoryIndex.getRemainingCategories());
+
+		assertEquals(1, categoryIndex.indexOf("b"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void excludeRemainingInvalid(){
+		CategoryIndex categoryIndex = new CategoryIndex(Arrays.asList("a", "b"));
+
+		categoryIndex.exclude(0);
+		categoryIndex.excludeRemaining(1);
+	}
+}
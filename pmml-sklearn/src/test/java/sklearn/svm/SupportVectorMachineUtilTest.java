@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.svm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import numpy.core.NDArrayUtil;
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.RealSparseArray;
+import org.dmg.pmml.support_vector_machine.VectorDictionary;
+import org.dmg.pmml.support_vector_machine.VectorFields;
+import org.dmg.pmml.support_vector_machine.VectorInstance;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.Schema;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+import scipy.sparse.CSRMatrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SupportVectorMachineUtilTest {
+
+	@Test
+	public void createVectorDictionary(){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		List<Feature> features = new ArrayList<>();
+
+		for(String name : Arrays.asList("a", "b", "c", "d")){
+			DataField dataField = encoder.createDataField(name);
+
+			features.add(new ContinuousFeature(encoder, dataField));
+		}
+
+		CSRMatrix sv = new CSRMatrix("scipy.sparse._csr", "csr_matrix");
+		sv.put("data", NDArrayUtil.toArray(Arrays.asList(4d, 1d, 0d, 2d)));
+		sv.put("indices", NDArrayUtil.toArray(Arrays.asList(3, 0, 1, 3)));
+		sv.put("indptr", NDArrayUtil.toArray(Arrays.asList(0, 3, 3, 4)));
+		sv.put("_shape", new Object[]{3, 4});
+
+		Schema schema = new Schema(encoder, null, features);
+
+		VectorDictionary vectorDictionary = SupportVectorMachineUtil.createVectorDictionary(sv, Arrays.asList("1", "5", "7"), schema);
+
+		VectorFields vectorFields = vectorDictionary.getVectorFields();
+
+		assertEquals(2, (vectorFields.getContent()).size());
+
+		List<VectorInstance> vectorInstances = vectorDictionary.getVectorInstances();
+
+		assertEquals(3, vectorInstances.size());
+
+		assertSparseArray(Arrays.asList(1, 2), Arrays.asList(1d, 4d), vectorInstances.get(0));
+		assertSparseArray(Arrays.asList(), Arrays.asList(), vectorInstances.get(1));
+		assertSparseArray(Arrays.asList(2), Arrays.asList(2d), vectorInstances.get(2));
+
+		assertEquals("7", (vectorInstances.get(2)).getId());
+	}
+
+	static
+	private void assertSparseArray(List<Integer> indices, List<Double> entries, VectorInstance vectorInstance){
+		RealSparseArray sparseArray = vectorInstance.getRealSparseArray();
+
+		assertNull(vectorInstance.getArray());
+
+		assertEquals((Integer)2, sparseArray.getN());
+		assertEquals(indices, sparseArray.getIndices());
+		assertEquals(entries, sparseArray.getEntries());
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.PredicateManager;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class EnsemblePredicateManagerTest {
+
+	@Test
+	public void createSimplePredicate(){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		DataField dataField = encoder.createDataField("x", OpType.CONTINUOUS, DataType.DOUBLE);
+
+		ContinuousFeature feature = new ContinuousFeature(encoder, dataField);
+
+		PredicateManager predicateManager = new EnsemblePredicateManager();
+
+		Predicate lessOrEqual = predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.LESS_OR_EQUAL, 0.5d);
+		Predicate greaterThan = predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.GREATER_THAN, 0.5d);
+
+		assertNotSame(lessOrEqual, greaterThan);
+
+		assertSame(lessOrEqual, predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.LESS_OR_EQUAL, 0.5d));
+		assertSame(greaterThan, predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.GREATER_THAN, 0.5d));
+
+		assertNotSame(lessOrEqual, predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.LESS_OR_EQUAL, 1.5d));
+
+		Predicate isMissing = predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.IS_MISSING, null);
+
+		assertSame(isMissing, predicateManager.createSimplePredicate(feature, SimplePredicate.Operator.IS_MISSING, null));
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import java.util.List;
+
+import org.dmg.pmml.False;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.BranchNode;
+import org.dmg.pmml.tree.LeafNode;
+import org.dmg.pmml.tree.Node;
+import org.jpmml.converter.CategoryManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NodeEncoderTest {
+
+	@Test
+	public void encodeBalanced(){
+		// Complete binary tree with three levels, in pre-order layout
+		int[] leftChildren = {1, 2, -1, -1, 5, -1, -1};
+		int[] rightChildren = {4, 3, -1, -1, 6, -1, -1};
+
+		Node root = encode(leftChildren, rightChildren);
+
+		assertEquals(0, root.getId());
+		assertSame(True.INSTANCE, root.getPredicate());
+
+		List<Node> children = root.getNodes();
+
+		assertEquals(2, children.size());
+
+		Node left = children.get(0);
+		Node right = children.get(1);
+
+		assertEquals(1, left.getId());
+		assertSame(True.INSTANCE, left.getPredicate());
+		assertEquals(4, right.getId());
+		assertSame(False.INSTANCE, right.getPredicate());
+
+		assertEquals(2, (left.getNodes()).get(0).getId());
+		assertEquals(3, (left.getNodes()).get(1).getId());
+		assertEquals(5, (right.getNodes()).get(0).getId());
+		assertEquals(6, (right.getNodes()).get(1).getId());
+	}
+
+	@Test
+	public void encodeDegenerate(){
+		int depth = 100000;
+
+		int[] leftChildren = new int[2 * depth + 1];
+		int[] rightChildren = new int[2 * depth + 1];
+
+		for(int i = 0; i < depth; i++){
+			leftChildren[2 * i] = (2 * i + 1);
+			rightChildren[2 * i] = (2 * i + 2);
+
+			leftChildren[2 * i + 1] = -1;
+			rightChildren[2 * i + 1] = -1;
+		}
+
+		leftChildren[2 * depth] = -1;
+		rightChildren[2 * depth] = -1;
+
+		Node node = encode(leftChildren, rightChildren);
+
+		for(int i = 0; i < depth; i++){
+			assertEquals(2 * i, node.getId());
+			assertTrue(node.hasNodes());
+
+			List<Node> children = node.getNodes();
+
+			assertFalse((children.get(0)).hasNodes());
+
+			node = children.get(1);
+		}
+
+		assertEquals(2 * depth, node.getId());
+		assertFalse(node.hasNodes());
+	}
+
+	static
+	private Node encode(int[] leftChildren, int[] rightChildren){
+		NodeEncoder nodeEncoder = new NodeEncoder(){
+
+			@Override
+			public boolean isLeaf(int index){
+				return (leftChildren[index] < 0);
+			}
+
+			@Override
+			public Node encodeBranch(int index, Predicate predicate, CategoryManager categoryManager, Split split){
+				split
+					.setLeft(leftChildren[index], True.INSTANCE, categoryManager)
+					.setRight(rightChildren[index], False.INSTANCE, categoryManager);
+
+				return new BranchNode(null, predicate)
+					.setId(index);
+			}
+
+			@Override
+			public Node encodeLeaf(int index, Predicate predicate){
+				return new LeafNode(null, predicate)
+					.setId(index);
+			}
+		};
+
+		return nodeEncoder.encode(0);
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.ContinuousLabel;
+import org.jpmml.converter.Schema;
+import org.jpmml.model.JAXBUtil;
+import org.jpmml.model.metro.MetroJAXBUtil;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TreeUtilTest {
+
+	@Test
+	public void transformDeepTree(){
+		int depth = 10000;
+
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		TreeRegressor regressor = createRegressor(depth);
+
+		// Default options, ie. pruned and compacted
+		TreeModel treeModel = (TreeModel)regressor.encode(createSchema(encoder));
+
+		checkChain(treeModel.requireNode(), depth);
+	}
+
+	@Test
+	public void encodeDeepTree() throws Exception {
+		// The PMML cleaners and JAXB marshallers traverse the node graph recursively
+		int depth = 500;
+
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		TreeRegressor regressor = createRegressor(depth);
+
+		Model model = regressor.encode(createSchema(encoder));
+
+		PMML pmml = encoder.encodePMML(model);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		MetroJAXBUtil.marshalPMML(pmml, os);
+
+		pmml = JAXBUtil.unmarshalPMML(new StreamSource(new ByteArrayInputStream(os.toByteArray())));
+
+		TreeModel treeModel = (TreeModel)(pmml.getModels()).get(0);
+
+		checkChain(treeModel.requireNode(), depth);
+	}
+
+	/**
+	 * <p>
+	 * Creates a regression tree, where every split sends the larger values of the feature to a leaf,
+	 * and the smaller values to the next split.
+	 * </p>
+	 */
+	static
+	private TreeRegressor createRegressor(int depth){
+		int size = (2 * depth + 1);
+
+		int[] leftChildren = new int[size];
+		int[] rightChildren = new int[size];
+		int[] features = new int[size];
+		double[] thresholds = new double[size];
+		double[] values = new double[size];
+
+		for(int i = 0; i < size; i++){
+			leftChildren[i] = -1;
+			rightChildren[i] = -1;
+			features[i] = -2;
+			thresholds[i] = -2d;
+		}
+
+		for(int i = 0; i < depth; i++){
+			int index = (2 * i);
+
+			leftChildren[index] = (index + 2);
+			rightChildren[index] = (index + 1);
+			features[index] = 0;
+			thresholds[index] = (depth - i);
+			values[index] = -(i + 1);
+
+			values[index + 1] = i;
+		}
+
+		values[2 * depth] = depth;
+
+		Tree tree = new Tree("sklearn.tree._tree", "Tree"){
+
+			@Override
+			public int[] getChildrenLeft(){
+				return leftChildren;
+			}
+
+			@Override
+			public int[] getChildrenRight(){
+				return rightChildren;
+			}
+
+			@Override
+			public int[] getFeature(){
+				return features;
+			}
+
+			@Override
+			public double[] getThreshold(){
+				return thresholds;
+			}
+
+			@Override
+			public double[] getValues(){
+				return values;
+			}
+		};
+
+		TreeRegressor regressor = new TreeRegressor("sklearn.tree._classes", "DecisionTreeRegressor");
+		regressor.put("tree_", tree);
+
+		return regressor;
+	}
+
+	static
+	private Schema createSchema(SkLearnEncoder encoder){
+		DataField xDataField = encoder.createDataField("x", OpType.CONTINUOUS, DataType.DOUBLE);
+		DataField yDataField = encoder.createDataField("y", OpType.CONTINUOUS, DataType.DOUBLE);
+
+		return new Schema(encoder, new ContinuousLabel(yDataField), Collections.singletonList(new ContinuousFeature(encoder, xDataField)));
+	}
+
+	static
+	private void checkChain(Node node, int depth){
+		assertTrue(node.requirePredicate() instanceof True);
+
+		for(int i = 0; i < depth; i++){
+			assertEquals((double)i, toDouble(node.getScore()), 0d);
+
+			List<Node> children = node.getNodes();
+
+			assertEquals(1, children.size());
+
+			node = children.get(0);
+
+			SimplePredicate simplePredicate = node.requirePredicate(SimplePredicate.class);
+
+			assertEquals(SimplePredicate.Operator.LESS_OR_EQUAL, simplePredicate.requireOperator());
+			assertEquals((double)(depth - i), toDouble(simplePredicate.requireValue()), 0d);
+		}
+
+		assertEquals((double)depth, toDouble(node.getScore()), 0d);
+		assertFalse(node.hasNodes());
+	}
+
+	static
+	private double toDouble(Object value){
+
+		// Unmarshalled PMML documents hold string values
+		if(value instanceof String){
+			return Double.parseDouble((String)value);
+		}
+
+		return ((Number)value).doubleValue();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn.tree.visitors;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import numpy.core.ScalarUtil;
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.HasExtensions;
+import org.dmg.pmml.Header;
+import org.dmg.pmml.MiningFunction;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.ScoreDistribution;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.NodeTransformer;
+import org.dmg.pmml.tree.SimplifyingNodeTransformer;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.converter.ContinuousFeature;
+import org.jpmml.converter.ContinuousLabel;
+import org.jpmml.converter.Schema;
+import org.jpmml.converter.ValueUtil;
+import org.jpmml.converter.visitors.AbstractExtender;
+import org.jpmml.model.metro.MetroJAXBUtil;
+import org.jpmml.model.visitors.AbstractVisitor;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+import sklearn.tree.Tree;
+import sklearn.tree.TreeRegressor;
+import sklearn.tree.TreeUtil;
+
+import static org.junit.Assert.assertEquals;
+
+public class TreeModelNodeTransformerTest {
+
+	@Test
+	public void transform() throws Exception {
+		Map<Integer, Object> firstValues = new LinkedHashMap<>();
+		Map<Integer, Object> secondValues = new LinkedHashMap<>();
+
+		for(int i = 0; i < 15; i++){
+
+			if(i % 2 == 0){
+				firstValues.put(i, i);
+			} // End if
+
+			if(i % 3 == 0){
+				secondValues.put(i, "node-" + i);
+			}
+		}
+
+		Map<String, Map<Integer, ?>> firstNodeExtensions = new LinkedHashMap<>();
+		firstNodeExtensions.put("first", firstValues);
+
+		Map<String, Map<Integer, ?>> secondNodeExtensions = new LinkedHashMap<>(firstNodeExtensions);
+		secondNodeExtensions.put("second", secondValues);
+
+		List<Map<String, Map<Integer, ?>>> nodeExtensionsList = new ArrayList<>();
+		nodeExtensionsList.add(null);
+		nodeExtensionsList.add(firstNodeExtensions);
+		nodeExtensionsList.add(secondNodeExtensions);
+
+		boolean[] flags = {false, true};
+
+		for(Map<String, Map<Integer, ?>> nodeExtensions : nodeExtensionsList){
+
+			for(boolean clearScore : flags){
+
+				for(boolean clearId : flags){
+					String message = nodeExtensions + ", " + clearScore + ", " + clearId;
+
+					TreeModelNodeTransformer nodeTransformer = new TreeModelNodeTransformer(nodeExtensions, clearScore, clearId);
+
+					String fused = encode(Collections.singletonList(nodeTransformer));
+					String unfused = encode(createVisitors(nodeExtensions, clearScore, clearId));
+
+					assertEquals(message, unfused, fused);
+				}
+			}
+		}
+	}
+
+	static
+	private String encode(List<? extends Visitor> visitors) throws Exception {
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		DataField xDataField = encoder.createDataField("x", OpType.CONTINUOUS, DataType.DOUBLE);
+		DataField yDataField = encoder.createDataField("y", OpType.CONTINUOUS, DataType.DOUBLE);
+
+		Schema schema = new Schema(encoder, new ContinuousLabel(yDataField), Collections.singletonList(new ContinuousFeature(encoder, xDataField)));
+
+		TreeModel treeModel = TreeUtil.encodeTreeModel(createRegressor(3), MiningFunction.REGRESSION, schema);
+
+		for(Visitor visitor : visitors){
+			visitor.applyTo(treeModel);
+		}
+
+		PMML pmml = encoder.encodePMML(treeModel);
+
+		Header header = pmml.getHeader();
+		header.setTimestamp(null);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		MetroJAXBUtil.marshalPMML(pmml, os);
+
+		return os.toString(StandardCharsets.UTF_8.name());
+	}
+
+	/**
+	 * <p>
+	 * Creates a balanced regression tree, where nodes are numbered in pre-order.
+	 * </p>
+	 */
+	static
+	private TreeRegressor createRegressor(int depth){
+		int size = (1 << (depth + 1)) - 1;
+
+		int[] leftChildren = new int[size];
+		int[] rightChildren = new int[size];
+		int[] features = new int[size];
+		double[] thresholds = new double[size];
+		double[] values = new double[size];
+
+		createNodes(0, depth, leftChildren, rightChildren, features, thresholds, values);
+
+		Tree tree = new Tree("sklearn.tree._tree", "Tree"){
+
+			@Override
+			public int[] getChildrenLeft(){
+				return leftChildren;
+			}
+
+			@Override
+			public int[] getChildrenRight(){
+				return rightChildren;
+			}
+
+			@Override
+			public int[] getFeature(){
+				return features;
+			}
+
+			@Override
+			public double[] getThreshold(){
+				return thresholds;
+			}
+
+			@Override
+			public double[] getValues(){
+				return values;
+			}
+		};
+
+		TreeRegressor regressor = new TreeRegressor("sklearn.tree._classes", "DecisionTreeRegressor");
+		regressor.put("tree_", tree);
+
+		return regressor;
+	}
+
+	static
+	private int createNodes(int index, int depth, int[] leftChildren, int[] rightChildren, int[] features, double[] thresholds, double[] values){
+		values[index] = index;
+
+		if(depth == 0){
+			leftChildren[index] = -1;
+			rightChildren[index] = -1;
+			features[index] = -2;
+			thresholds[index] = -2d;
+
+			return index + 1;
+		}
+
+		int leftIndex = index + 1;
+		int rightIndex = createNodes(leftIndex, depth - 1, leftChildren, rightChildren, features, thresholds, values);
+
+		leftChildren[index] = leftIndex;
+		rightChildren[index] = rightIndex;
+		features[index] = 0;
+		thresholds[index] = index + 0.5d;
+
+		return createNodes(rightIndex, depth - 1, leftChildren, rightChildren, features, thresholds, values);
+	}
+
+	/**
+	 * <p>
+	 * Creates one Visitor per node extension, followed by the node identifier and node score cleaners.
+	 * </p>
+	 */
+	static
+	private List<Visitor> createVisitors(Map<String, Map<Integer, ?>> nodeExtensions, boolean clearScore, boolean clearId){
+		List<Visitor> result = new ArrayList<>();
+
+		if(nodeExtensions != null){
+			Collection<? extends Map.Entry<String, Map<Integer, ?>>> entries = nodeExtensions.entrySet();
+
+			for(Map.Entry<String, Map<Integer, ?>> entry : entries){
+				result.add(new NodeExtender(entry.getKey(), entry.getValue()));
+			}
+		} // End if
+
+		if(clearId){
+			Visitor nodeIdCleaner = new AbstractVisitor(){
+
+				@Override
+				public VisitorAction visit(Node node){
+					node.setId(null);
+
+					return super.visit(node);
+				}
+			};
+
+			result.add(nodeIdCleaner);
+		} // End if
+
+		if(clearScore){
+			Visitor nodeScoreCleaner = new AbstractVisitor(){
+
+				@Override
+				public VisitorAction visit(Node node){
+
+					if(node.hasNodes()){
+						node.setScore(null);
+
+						if(node.hasScoreDistributions()){
+							List<ScoreDistribution> scoreDistributions = node.getScoreDistributions();
+
+							scoreDistributions.clear();
+						}
+					}
+
+					return super.visit(node);
+				}
+			};
+
+			result.add(nodeScoreCleaner);
+		}
+
+		return result;
+	}
+
+	static
+	private class NodeExtender extends AbstractExtender {
+
+		private Map<Integer, ?> values = null;
+
+		private NodeTransformer nodeTransformer = SimplifyingNodeTransformer.INSTANCE;
+
+
+		private NodeExtender(String name, Map<Integer, ?> values){
+			super(name);
+
+			this.values = values;
+		}
+
+		@Override
+		public VisitorAction visit(TreeModel treeModel){
+			treeModel.setNode(ensureExtensibility(treeModel.getNode()));
+
+			return super.visit(treeModel);
+		}
+
+		@Override
+		public VisitorAction visit(Node node){
+
+			if(node.hasNodes()){
+				List<Node> children = node.getNodes();
+
+				for(ListIterator<Node> childIt = children.listIterator(); childIt.hasNext(); ){
+					childIt.set(ensureExtensibility(childIt.next()));
+				}
+			}
+
+			Object value = getValue(node);
+			if(value != null){
+				value = ScalarUtil.decode(value);
+
+				addExtension((Node & HasExtensions)node, ValueUtil.asString(value));
+			}
+
+			return super.visit(node);
+		}
+
+		private Node ensureExtensibility(Node node){
+
+			if(node instanceof HasExtensions){
+				return node;
+			}
+
+			Object value = getValue(node);
+			if(value != null){
+				return this.nodeTransformer.toComplexNode(node);
+			}
+
+			return node;
+		}
+
+		private Object getValue(Node node){
+			Integer id = ValueUtil.asInteger((Number)node.getId());
+
+			return this.values.get(id);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-SkLearn
+ *
+ * JPMML-SkLearn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-SkLearn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-SkLearn.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sklearn2pmml.preprocessing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Iterables;
+import org.dmg.pmml.Cell;
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.InlineTable;
+import org.dmg.pmml.MapValues;
+import org.dmg.pmml.Row;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.WildcardFeature;
+import org.jpmml.sklearn.SkLearnEncoder;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class LookupTransformerTest {
+
+	@Test
+	public void encode(){
+		Map<String, String> mapping = new LinkedHashMap<>();
+		mapping.put("a", "X");
+		mapping.put("b", "OTHER");
+		mapping.put("c", null);
+		mapping.put("d", new String("X"));
+
+		InlineTable inlineTable = encode(mapping, false);
+
+		List<Row> rows = inlineTable.getRows();
+
+		assertEquals(3, rows.size());
+
+		assertEquals("b", getCellValue(rows.get(1), 0));
+		assertEquals("d", getCellValue(rows.get(2), 0));
+
+		assertSame(getCellValue(rows.get(0), 1), getCellValue(rows.get(2), 1));
+
+		inlineTable = encode(mapping, true);
+
+		rows = inlineTable.getRows();
+
+		assertEquals(2, rows.size());
+
+		assertEquals("a", getCellValue(rows.get(0), 0));
+		assertEquals("d", getCellValue(rows.get(1), 0));
+	}
+
+	static
+	private InlineTable encode(Map<String, String> mapping, boolean foldDefault){
+		SkLearnEncoder encoder = new SkLearnEncoder();
+
+		DataField dataField = encoder.createDataField("x");
+
+		LookupTransformer transformer = new LookupTransformer("sklearn2pmml.preprocessing", "LookupTransformer");
+		transformer.put("mapping", mapping);
+		transformer.put("default_value", "OTHER");
+		transformer.setPMMLOptions(Collections.singletonMap(HasLookupOptions.OPTION_FOLD_DEFAULT, foldDefault));
+
+		List<Feature> features = transformer.encode(Collections.singletonList(new WildcardFeature(encoder, dataField)), encoder);
+
+		Feature feature = Iterables.getOnlyElement(features);
+
+		DerivedField derivedField = (DerivedField)feature.getField();
+
+		MapValues mapValues = (MapValues)derivedField.getExpression();
+
+		assertEquals("OTHER", mapValues.getDefaultValue());
+
+		return mapValues.getInlineTable();
+	}
+
+	static
+	private Object getCellValue(Row row, int index){
+		List<Object> content = row.getContent();
+
+		Cell cell = (Cell)content.get(index);
+
+		return cell.getValue();
+	}
+}